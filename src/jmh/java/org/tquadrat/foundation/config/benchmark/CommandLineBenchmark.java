@@ -0,0 +1,418 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.CmdLineException;
+import org.tquadrat.foundation.config.CmdLineParser;
+import org.tquadrat.foundation.config.ConfigUtil;
+import org.tquadrat.foundation.config.cli.CmdLineValueHandler;
+import org.tquadrat.foundation.config.cli.StringValueHandler;
+import org.tquadrat.foundation.config.internal.ArgumentParser;
+import org.tquadrat.foundation.config.internal.CLIDefinitionParser;
+import org.tquadrat.foundation.config.internal.UsageBuilder;
+import org.tquadrat.foundation.config.spi.CLIArgumentDefinition;
+import org.tquadrat.foundation.config.spi.CLIDefinition;
+import org.tquadrat.foundation.config.spi.CLIOptionDefinition;
+import org.tquadrat.foundation.config.spi.Parameters;
+
+/**
+ *  <p>{@summary Benchmarks for the parsing of command lines, for the parsing
+ *  of the XML CLI definitions, and for the creation of the <i>usage</i>
+ *  message.}</p>
+ *  <p>The {@code argumentParserHuge…} benchmarks parse a command line with
+ *  {@value #HUGE_SIZE} tokens, as it results from passing a large list of
+ *  files through an argument file; the list is consumed by a value handler
+ *  that probes each token with
+ *  {@link Parameters#isParameter(int)}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class CommandLineBenchmark
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A value handler that takes all parameters up to the next option.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    private static final class FileListHandler extends CmdLineValueHandler<String>
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code FileListHandler} instance.
+         *
+         *  @param  valueSetter The function that places the translated value
+         *      to the property.
+         */
+        public FileListHandler( final BiConsumer<String,String> valueSetter )
+        {
+            super( valueSetter );
+        }   //  FileListHandler()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final Collection<String> translate( final Parameters params )
+        {
+            final List<String> retValue = new ArrayList<>();
+            for( var i = 0; params.isParameter( i ); ++i ) retValue.add( params.getParameter( i ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  translate()
+    }
+    //  class FileListHandler
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of file names for the huge command line.
+     */
+    public static final int HUGE_SIZE = 100_000;
+
+    /**
+     *  The number of option/value pairs for the large command line.
+     */
+    public static final int LARGE_SIZE = 1_000;
+
+    /**
+     *  The XML CLI definition.
+     */
+    public static final String XML_CLI_DEFINITION =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <cli:cliDefinition xmlns:cli="http://dtd.tquadrat.org/CLIDefinition"
+                           xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                           xsi:schemaLocation="http://dtd.tquadrat.org/CLIDefinition CLIDefinition.xsd ">
+            <cli:option cli:name="--option"
+                        cli:handler="org.tquadrat.foundation.config.cli.StringValueHandler"
+                        cli:isMultiValue="true"
+                        cli:isRequired="false"
+                        cli:propertyName="option"
+                        cli:type="java.lang.String">
+                <cli:alias cli:name="-o"/>
+                <cli:usage cli:key="key">option usage</cli:usage>
+            </cli:option>
+            <cli:option cli:name="--flag"
+                        cli:handler="org.tquadrat.foundation.config.cli.StringValueHandler"
+                        cli:isMultiValue="false"
+                        cli:isRequired="false"
+                        cli:propertyName="flag"
+                        cli:type="java.lang.String">
+                <cli:alias cli:name="-f"/>
+                <cli:usage cli:key="key">flag usage</cli:usage>
+            </cli:option>
+            <cli:argument cli:index="0"
+                          cli:isMultiValue="true"
+                          cli:isRequired="false"
+                          cli:propertyName="argument"
+                          cli:type="java.lang.String">
+                <cli:usage cli:key="key">argument usage</cli:usage>
+            </cli:argument>
+        </cli:cliDefinition>
+        """;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The command line that refers to an argument file.
+     */
+    private String [] m_ArgFileCommandLine;
+
+    /**
+     *  The command line that refers to the argument file with the huge list
+     *  of files.
+     */
+    private String [] m_HugeArgFileCommandLine;
+
+    /**
+     *  The argument file with the huge list of files.
+     */
+    private Path m_HugeArgumentFile;
+
+    /**
+     *  The huge command line.
+     */
+    private String [] m_HugeCommandLine;
+
+    /**
+     *  The argument file.
+     */
+    private Path m_ArgumentFile;
+
+    /**
+     *  The compiled command line parser.
+     */
+    private CmdLineParser m_CompiledParser;
+
+    /**
+     *  The CLI definitions.
+     */
+    private List<CLIDefinition> m_Definitions;
+
+    /**
+     *  The large command line.
+     */
+    private String [] m_LargeCommandLine;
+
+    /**
+     *  The small command line.
+     */
+    private String [] m_SmallCommandLine;
+
+    /**
+     *  The XML CLI definition as bytes.
+     */
+    private byte [] m_XMLCLIDefinition;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Parses a command line that refers to an argument file.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void argumentParserArgumentFile() throws CmdLineException
+    {
+        new ArgumentParser( m_Definitions ).parse( m_ArgFileCommandLine );
+    }   //  argumentParserArgumentFile()
+
+    /**
+     *  Parses a command line with {@value #LARGE_SIZE} options and
+     *  {@value #LARGE_SIZE} arguments.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void argumentParserLarge() throws CmdLineException
+    {
+        new ArgumentParser( m_Definitions ).parse( m_LargeCommandLine );
+    }   //  argumentParserLarge()
+
+    /**
+     *  Parses a command line with a list of {@value #HUGE_SIZE} files.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void argumentParserHuge() throws CmdLineException
+    {
+        new ArgumentParser( m_Definitions ).parse( m_HugeCommandLine );
+    }   //  argumentParserHuge()
+
+    /**
+     *  Parses a command line that refers to an argument file with a list of
+     *  {@value #HUGE_SIZE} files.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void argumentParserHugeArgumentFile() throws CmdLineException
+    {
+        new ArgumentParser( m_Definitions ).parse( m_HugeArgFileCommandLine );
+    }   //  argumentParserHugeArgumentFile()
+
+    /**
+     *  Parses a short command line.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void argumentParserSmall() throws CmdLineException
+    {
+        new ArgumentParser( m_Definitions ).parse( m_SmallCommandLine );
+    }   //  argumentParserSmall()
+
+    /**
+     *  Parses the XML CLI definition without validation.
+     *
+     *  @return The CLI definitions.
+     *  @throws XMLStreamException  The XML is invalid.
+     *  @throws IOException Cannot read the XML.
+     */
+    @Benchmark
+    public final List<CLIDefinition> cliDefinitionParser() throws XMLStreamException, IOException
+    {
+        return CLIDefinitionParser.parse( new ByteArrayInputStream( m_XMLCLIDefinition ), new HashMap<>(), false );
+    }   //  cliDefinitionParser()
+
+    /**
+     *  Parses the XML CLI definition with validation.
+     *
+     *  @return The CLI definitions.
+     *  @throws XMLStreamException  The XML is invalid.
+     *  @throws IOException Cannot read the XML.
+     */
+    @Benchmark
+    public final List<CLIDefinition> cliDefinitionParserValidating() throws XMLStreamException, IOException
+    {
+        return CLIDefinitionParser.parse( new ByteArrayInputStream( m_XMLCLIDefinition ), new HashMap<>(), true );
+    }   //  cliDefinitionParserValidating()
+
+    /**
+     *  Parses a short command line with a parser that was compiled only
+     *  once.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void compiledParserSmall() throws CmdLineException
+    {
+        m_CompiledParser.parse( m_SmallCommandLine );
+    }   //  compiledParserSmall()
+
+    /**
+     *  Parses a command line with {@value #LARGE_SIZE} options and
+     *  {@value #LARGE_SIZE} arguments with a parser that was compiled only
+     *  once.
+     *
+     *  @throws CmdLineException    The command line is invalid.
+     */
+    @Benchmark
+    public final void compiledParserLarge() throws CmdLineException
+    {
+        m_CompiledParser.parse( m_LargeCommandLine );
+    }   //  compiledParserLarge()
+
+    /**
+     *  Creates the CLI definitions and the command lines.
+     *
+     *  @throws IOException Cannot write the argument file.
+     */
+    @Setup( Level.Trial )
+    public final void setup() throws IOException
+    {
+        final Map<String,Object> target = new HashMap<>();
+        m_Definitions = List.of(
+            new CLIOptionDefinition( "option", List.of( "--option", "-o" ), "option usage", null, "OPTION", false, new StringValueHandler( target::put ), true, null ),
+            new CLIOptionDefinition( "flag", List.of( "--flag", "-f" ), "flag usage", null, "FLAG", false, new StringValueHandler( target::put ), false, null ),
+            new CLIOptionDefinition( "files", List.of( "--files" ), "files usage", null, "FILE", false, new FileListHandler( target::put ), true, null ),
+            new CLIArgumentDefinition( "argument", 0, "argument usage", null, "ARGUMENT", false, new StringValueHandler( target::put ), true, null ) );
+        m_CompiledParser = ConfigUtil.compileCommandLine( m_Definitions );
+
+        m_SmallCommandLine = new String [] {"--option", "value", "-fflag", "--option=other", "argument"};
+
+        final List<String> large = new ArrayList<>( 3 * LARGE_SIZE );
+        for( var i = 0; i < LARGE_SIZE; ++i )
+        {
+            large.add( "--option" );
+            large.add( "value%d".formatted( i ) );
+        }
+        for( var i = 0; i < LARGE_SIZE; ++i ) large.add( "argument%d".formatted( i ) );
+        m_LargeCommandLine = large.toArray( String []::new );
+
+        m_ArgumentFile = Files.createTempFile( "benchmark", ".args" );
+        Files.write( m_ArgumentFile, large, UTF_8 );
+        m_ArgFileCommandLine = new String [] {"-fflag", "@%s".formatted( m_ArgumentFile.toAbsolutePath() )};
+
+        final List<String> huge = new ArrayList<>( HUGE_SIZE + 3 );
+        huge.add( "--files" );
+        for( var i = 0; i < HUGE_SIZE; ++i ) huge.add( "/data/input/file%d.txt".formatted( i ) );
+        huge.add( "-fflag" );
+        huge.add( "argument" );
+        m_HugeCommandLine = huge.toArray( String []::new );
+
+        m_HugeArgumentFile = Files.createTempFile( "benchmark", ".args" );
+        Files.write( m_HugeArgumentFile, huge, UTF_8 );
+        m_HugeArgFileCommandLine = new String [] {"@%s".formatted( m_HugeArgumentFile.toAbsolutePath() )};
+
+        m_XMLCLIDefinition = XML_CLI_DEFINITION.getBytes( UTF_8 );
+    }   //  setup()
+
+    /**
+     *  Removes the argument files.
+     *
+     *  @throws IOException Cannot delete an argument file.
+     */
+    @TearDown( Level.Trial )
+    public final void tearDown() throws IOException
+    {
+        Files.deleteIfExists( m_ArgumentFile );
+        Files.deleteIfExists( m_HugeArgumentFile );
+    }   //  tearDown()
+
+    /**
+     *  Builds the <i>usage</i> message.
+     *
+     *  @return The usage message.
+     */
+    @Benchmark
+    public final String usageBuilder()
+    {
+        return new UsageBuilder( Optional.empty() ).build( "command", m_Definitions );
+    }   //  usageBuilder()
+}
+//  class CommandLineBenchmark
+
+/*
+ *  End of File
+ */
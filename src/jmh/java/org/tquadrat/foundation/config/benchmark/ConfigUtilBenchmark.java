@@ -0,0 +1,384 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.nio.charset.Charset;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigBeanSpec;
+import org.tquadrat.foundation.config.ConfigUtil;
+import org.tquadrat.foundation.config.ConfigurationBeanSpecification;
+import org.tquadrat.foundation.config.ConfigurationChangeListener;
+import org.tquadrat.foundation.config.ConfigurationSnapshot;
+import org.tquadrat.foundation.config.SessionBeanSpec;
+import org.tquadrat.foundation.config.spi.ConfigSnapshotSupport;
+
+/**
+ *  <p>{@summary Benchmarks for the retrieval of configuration beans through
+ *  {@link ConfigUtil}.}</p>
+ *  <p>The <i>hit</i> benchmarks retrieve an existing bean, with one and with
+ *  eight threads, to show the costs of the lookup and its behaviour under
+ *  contention. The <i>miss</i> benchmark creates a new session bean for
+ *  each call and drops it afterwards.</p>
+ *  <p>The configuration beans for the benchmarks are written by hand, so
+ *  that the benchmarks do not depend on the annotation processor; the names
+ *  given with the
+ *  {@link ConfigurationBeanSpecification &#64;ConfigurationBeanSpecification}
+ *  annotations make {@code ConfigUtil} find them.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class ConfigUtilBenchmark
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The base class for the configuration beans used by the benchmarks.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public abstract static class BeanBase implements ConfigBeanSpec
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The support for the snapshot.
+         */
+        private final ConfigSnapshotSupport m_SnapshotSupport = new ConfigSnapshotSupport( Map.of() );
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void addListener( final ConfigurationChangeListener listener ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void addListener( final ConfigurationChangeListener listener, final Predicate<String> filter ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void addListener( final ConfigurationChangeListener listener, final Set<String> propertyNames ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Charset getCharset() { return Charset.defaultCharset(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Locale getLocale() { return Locale.getDefault(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Optional<ResourceBundle> getResourceBundle() { return Optional.empty(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final ConfigurationSnapshot getSnapshot() { return m_SnapshotSupport.getSnapshot(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final ZoneId getTimezone() { return ZoneId.systemDefault(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean isDebug() { return false; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean isTest() { return false; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void removeListener( final ConfigurationChangeListener listener ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void setCharset( final Charset charset ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void setLocale( final Locale locale ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void setTimezone( final ZoneId timezone ) { /* Does nothing */ }
+    }
+    //  class BeanBase
+
+    /**
+     *  The specification for the global configuration bean.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "ConfigUtilBenchmark$GlobalBean", samePackage = true )
+    public static interface GlobalSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The global configuration bean.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class GlobalBean extends BeanBase implements GlobalSpec
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code GlobalBean} instance.
+         */
+        public GlobalBean() { /* Just exists */ }
+    }
+    //  class GlobalBean
+
+    /**
+     *  The specification for the session configuration bean.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "ConfigUtilBenchmark$SessionBean", samePackage = true )
+    public static interface SessionSpec extends SessionBeanSpec { /* Empty */ }
+
+    /**
+     *  The session configuration bean.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class SessionBean extends BeanBase implements SessionSpec
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The session key.
+         */
+        private final String m_SessionKey;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code SessionBean} instance.
+         *
+         *  @param  sessionKey  The session key.
+         */
+        public SessionBean( final String sessionKey ) { m_SessionKey = sessionKey; }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String getSessionKey() { return m_SessionKey; }
+    }
+    //  class SessionBean
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The counter for the session keys of the <i>miss</i> benchmark.
+     */
+    private final AtomicLong m_KeyCounter = new AtomicLong();
+
+    /**
+     *  The lookup for the constructors of the configuration beans.
+     */
+    private final Lookup m_Lookup = MethodHandles.lookup();
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the configuration beans for the <i>hit</i> benchmarks.
+     */
+    @Setup
+    public final void setup()
+    {
+        ConfigUtil.getConfiguration( GlobalSpec.class, m_Lookup );
+        ConfigUtil.getConfiguration( SessionSpec.class, "session", m_Lookup );
+    }   //  setup()
+
+    /**
+     *  Retrieves the existing global configuration bean through a factory.
+     *
+     *  @return The configuration bean.
+     */
+    @Benchmark
+    public final GlobalSpec globalHit()
+    {
+        return ConfigUtil.getConfiguration( GlobalSpec.class, c -> c.getConstructor().newInstance() );
+    }   //  globalHit()
+
+    /**
+     *  Retrieves the existing global configuration bean through a factory,
+     *  from eight threads concurrently.
+     *
+     *  @return The configuration bean.
+     */
+    @Benchmark
+    @Threads( 8 )
+    public final GlobalSpec globalHitContended()
+    {
+        return ConfigUtil.getConfiguration( GlobalSpec.class, c -> c.getConstructor().newInstance() );
+    }   //  globalHitContended()
+
+    /**
+     *  Retrieves the existing session configuration bean.
+     *
+     *  @return The configuration bean.
+     */
+    @Benchmark
+    public final SessionSpec sessionHit()
+    {
+        return ConfigUtil.getConfiguration( SessionSpec.class, "session", m_Lookup );
+    }   //  sessionHit()
+
+    /**
+     *  Retrieves the existing session configuration bean from eight threads
+     *  concurrently.
+     *
+     *  @return The configuration bean.
+     */
+    @Benchmark
+    @Threads( 8 )
+    public final SessionSpec sessionHitContended()
+    {
+        return ConfigUtil.getConfiguration( SessionSpec.class, "session", m_Lookup );
+    }   //  sessionHitContended()
+
+    /**
+     *  Creates a new session configuration bean and drops it again, using
+     *  the cached constructor handle.
+     *
+     *  @return The configuration bean.
+     */
+    @Benchmark
+    public final SessionSpec sessionMissWithLookup()
+    {
+        final var sessionKey = Long.toString( m_KeyCounter.incrementAndGet() );
+        final var retValue = ConfigUtil.getConfiguration( SessionSpec.class, sessionKey, m_Lookup );
+        ConfigUtil.dropConfiguration( SessionSpec.class, sessionKey );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sessionMissWithLookup()
+
+    /**
+     *  Creates a new session configuration bean and drops it again, using a
+     *  reflective factory.
+     *
+     *  @return The configuration bean.
+     */
+    @Benchmark
+    public final SessionSpec sessionMissWithFactory()
+    {
+        final var sessionKey = Long.toString( m_KeyCounter.incrementAndGet() );
+        final var retValue = ConfigUtil.getConfiguration( SessionSpec.class, sessionKey, (c,s) -> c.getConstructor( String.class ).newInstance( s ) );
+        ConfigUtil.dropConfiguration( SessionSpec.class, sessionKey );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sessionMissWithFactory()
+}
+//  class ConfigUtilBenchmark
+
+/*
+ *  End of File
+ */
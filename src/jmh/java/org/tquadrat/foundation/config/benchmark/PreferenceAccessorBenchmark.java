@@ -0,0 +1,242 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.prefs.AbstractPreferences;
+import java.util.prefs.BackingStoreException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.spi.InvalidPreferenceValueException;
+import org.tquadrat.foundation.config.spi.prefs.IntegerAccessor;
+import org.tquadrat.foundation.config.spi.prefs.StringAccessor;
+
+/**
+ *  <p>{@summary Benchmarks for the read/write round trips of
+ *  {@link org.tquadrat.foundation.config.spi.prefs.PreferenceAccessor}
+ *  instances.}</p>
+ *  <p>The preferences are kept in memory, so that the benchmarks measure the
+ *  costs of the accessors and not those of the backing store.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class PreferenceAccessorBenchmark
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  An implementation of
+     *  {@link java.util.prefs.Preferences}
+     *  that keeps the values in memory only.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    private static final class MemoryPreferences extends AbstractPreferences
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The values.
+         */
+        private final Map<String,String> m_Values = new HashMap<>();
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code MemoryPreferences} instance.
+         *
+         *  @param  parent  The parent node; {@null} for the root node.
+         *  @param  name    The name of the node.
+         */
+        public MemoryPreferences( final AbstractPreferences parent, final String name )
+        {
+            super( parent, name );
+        }   //  MemoryPreferences()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final String [] childrenNamesSpi() { return new String [0]; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final AbstractPreferences childSpi( final String name ) { return new MemoryPreferences( this, name ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void flushSpi() { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final String getSpi( final String key ) { return m_Values.get( key ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final String [] keysSpi() { return m_Values.keySet().toArray( String []::new ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void putSpi( final String key, final String value ) { m_Values.put( key, value ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void removeNodeSpi() { m_Values.clear(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void removeSpi( final String key ) { m_Values.remove( key ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void syncSpi() { /* Does nothing */ }
+    }
+    //  class MemoryPreferences
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The accessor for the {@code int} property.
+     */
+    private IntegerAccessor m_IntegerAccessor;
+
+    /**
+     *  The {@code int} property.
+     */
+    private Integer m_IntegerValue = 4711;
+
+    /**
+     *  The preferences node.
+     */
+    private MemoryPreferences m_Node;
+
+    /**
+     *  The accessor for the {@code String} property.
+     */
+    private StringAccessor m_StringAccessor;
+
+    /**
+     *  The {@code String} property.
+     */
+    private String m_StringValue = "value";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Writes the {@code int} property to the preferences and reads it back.
+     *
+     *  @return The property value.
+     *  @throws BackingStoreException    Problems with the preferences.
+     *  @throws InvalidPreferenceValueException The value in the preferences
+     *      is invalid.
+     */
+    @Benchmark
+    public final Integer integerRoundTrip() throws BackingStoreException, InvalidPreferenceValueException
+    {
+        m_IntegerAccessor.writePreference( m_Node );
+        m_IntegerAccessor.readPreference( m_Node );
+
+        //---* Done *----------------------------------------------------------
+        return m_IntegerValue;
+    }   //  integerRoundTrip()
+
+    /**
+     *  Creates the preferences node and the accessors.
+     */
+    @Setup
+    public final void setup()
+    {
+        m_Node = new MemoryPreferences( null, "" );
+        m_IntegerAccessor = new IntegerAccessor( "integer", () -> m_IntegerValue, v -> m_IntegerValue = v );
+        m_StringAccessor = new StringAccessor( "string", () -> m_StringValue, v -> m_StringValue = v );
+    }   //  setup()
+
+    /**
+     *  Writes the {@code String} property to the preferences and reads it
+     *  back.
+     *
+     *  @return The property value.
+     *  @throws BackingStoreException    Problems with the preferences.
+     *  @throws InvalidPreferenceValueException The value in the preferences
+     *      is invalid.
+     */
+    @Benchmark
+    public final String stringRoundTrip() throws BackingStoreException, InvalidPreferenceValueException
+    {
+        m_StringAccessor.writePreference( m_Node );
+        m_StringAccessor.readPreference( m_Node );
+
+        //---* Done *----------------------------------------------------------
+        return m_StringValue;
+    }   //  stringRoundTrip()
+}
+//  class PreferenceAccessorBenchmark
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,201 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigurationSnapshot;
+import org.tquadrat.foundation.config.spi.ConfigSnapshotSupport;
+import org.tquadrat.foundation.config.spi.StampedAccessSupport;
+import org.tquadrat.foundation.lang.AutoLock;
+
+/**
+ *  <p>{@summary Compares the read throughput for the properties of a
+ *  configuration bean with the different guarding schemes.}</p>
+ *  <ul>
+ *      <li>{@code readWriteLock…}: the scheme used by the generated
+ *      configuration beans, with a
+ *      {@link ReentrantReadWriteLock}
+ *      wrapped into an
+ *      {@link AutoLock}.</li>
+ *      <li>{@code stamped…}: optimistic reads through
+ *      {@link StampedAccessSupport}.</li>
+ *      <li>{@code snapshot…}: a read from a
+ *      {@link ConfigurationSnapshot}
+ *      maintained by
+ *      {@link ConfigSnapshotSupport}.</li>
+ *  </ul>
+ *  <p>Each scheme runs as a group of seven reader threads and one writer
+ *  thread.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Group )
+public class PropertyAccessBenchmark
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The read lock.
+     */
+    private final AutoLock m_ReadLock;
+
+    /**
+     *  The support for the snapshot.
+     */
+    private final ConfigSnapshotSupport m_SnapshotSupport = new ConfigSnapshotSupport( Map.of( "value", "initial" ) );
+
+    /**
+     *  The support for the optimistic reads.
+     */
+    private final StampedAccessSupport m_StampedAccessSupport = new StampedAccessSupport();
+
+    /**
+     *  The property value.
+     */
+    private String m_Value = "initial";
+
+    /**
+     *  The write lock.
+     */
+    private final AutoLock m_WriteLock;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PropertyAccessBenchmark} instance.
+     */
+    public PropertyAccessBenchmark()
+    {
+        final var lock = new ReentrantReadWriteLock();
+        m_ReadLock = AutoLock.of( lock.readLock() );
+        m_WriteLock = AutoLock.of( lock.writeLock() );
+    }   //  PropertyAccessBenchmark()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Reads the value with the read lock.
+     *
+     *  @return The value.
+     */
+    @Benchmark
+    @Group( "readWriteLock" )
+    @GroupThreads( 7 )
+    public final String readWriteLockRead()
+    {
+        try( @SuppressWarnings( "unused" ) final var ignored = m_ReadLock.lock() )
+        {
+            return m_Value;
+        }
+    }   //  readWriteLockRead()
+
+    /**
+     *  Writes the value with the write lock.
+     */
+    @Benchmark
+    @Group( "readWriteLock" )
+    @GroupThreads( 1 )
+    public final void readWriteLockWrite()
+    {
+        try( @SuppressWarnings( "unused" ) final var ignored = m_WriteLock.lock() )
+        {
+            m_Value = m_Value.equals( "initial" ) ? "modified" : "initial";
+        }
+    }   //  readWriteLockWrite()
+
+    /**
+     *  Reads the value from the snapshot.
+     *
+     *  @return The value.
+     */
+    @Benchmark
+    @Group( "snapshot" )
+    @GroupThreads( 7 )
+    public final Object snapshotRead()
+    {
+        return m_SnapshotSupport.getSnapshot().getValues().get( "value" );
+    }   //  snapshotRead()
+
+    /**
+     *  Modifies the value in the snapshot.
+     */
+    @Benchmark
+    @Group( "snapshot" )
+    @GroupThreads( 1 )
+    public final void snapshotWrite()
+    {
+        m_SnapshotSupport.update( "value", "initial".equals( m_SnapshotSupport.getSnapshot().getValues().get( "value" ) ) ? "modified" : "initial" );
+    }   //  snapshotWrite()
+
+    /**
+     *  Reads the value optimistically.
+     *
+     *  @return The value.
+     */
+    @Benchmark
+    @Group( "stamped" )
+    @GroupThreads( 7 )
+    public final String stampedRead()
+    {
+        return m_StampedAccessSupport.read( () -> m_Value );
+    }   //  stampedRead()
+
+    /**
+     *  Writes the value with the write lock of the stamped lock.
+     */
+    @Benchmark
+    @Group( "stamped" )
+    @GroupThreads( 1 )
+    public final void stampedWrite()
+    {
+        m_StampedAccessSupport.write( () -> m_Value = m_Value.equals( "initial" ) ? "modified" : "initial" );
+    }   //  stampedWrite()
+}
+//  class PropertyAccessBenchmark
+
+/*
+ *  End of File
+ */
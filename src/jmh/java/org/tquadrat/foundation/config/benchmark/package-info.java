@@ -0,0 +1,28 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ * http://www.gnu.org/licenses/lgpl.html
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ *  <p>{@summary The JMH benchmarks for the configuration beans and the
+ *  command line parsing}. They are not part of the library.</p>
+ *  <p>The benchmarks are run with the Gradle JMH plugin that picks up the
+ *  sources from {@code src/jmh/java}:</p>
+ *  <div class="source-container"><pre>gradle jmh</pre></div>
+ */
+
+package org.tquadrat.foundation.config.benchmark;
+
+/*
+ *  End of File
+ */
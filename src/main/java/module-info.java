@@ -26,6 +26,7 @@ module org.tquadrat.foundation.config
 {
     requires java.base;
     requires java.desktop;
+    requires java.management;
     requires transitive java.prefs;
     requires java.scripting;
 
@@ -38,6 +39,9 @@ module org.tquadrat.foundation.config
     exports org.tquadrat.foundation.config.cli;
     exports org.tquadrat.foundation.config.spi;
     exports org.tquadrat.foundation.config.spi.prefs;
+
+    //---* The services *------------------------------------------------------
+    uses org.tquadrat.foundation.config.ConfigBeanSpec;
 }
 
 /*
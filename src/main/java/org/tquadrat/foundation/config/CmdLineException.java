@@ -96,6 +96,14 @@ public final class CmdLineException extends ValidationException
      */
     public static final String MSG_NoArgumentAllowed = "No arguments allowed: %1$s";
 
+    /**
+     *  The error message for an abbreviated option that matches more than
+     *  one option: {@value}.
+     *
+     *  @since 0.25.13
+     */
+    public static final String MSG_OptionAmbiguous = "The option '%1$s' is ambiguous; possible options are %2$s";
+
     /**
      *  The error message for an invalid option: {@value}.
      */
@@ -107,6 +115,14 @@ public final class CmdLineException extends ValidationException
      */
     public static final String MSG_OptionMissing = "The mandatory option '%1$s' is missing on the command line";
 
+    /**
+     *  The error message for an invalid option that is similar to a valid
+     *  one: {@value}.
+     *
+     *  @since 0.25.13
+     */
+    public static final String MSG_OptionUnknown = "The option '%1$s' is invalid; did you mean %2$s?";
+
     /**
      *  The message for an unspecified failure of the command line parsing:
      *  {@value}.
@@ -235,6 +251,26 @@ public final class CmdLineException extends ValidationException
     )
     public static final int MSGKEY_NoArgumentAllowed = 9;
 
+    /**
+     *  The message key for the error message about an abbreviated option
+     *  that matches more than one option.
+     *
+     *  @see #MSG_OptionAmbiguous
+     *
+     *  @since 0.25.13
+     */
+    @SuppressWarnings( "StaticMethodOnlyUsedInOneClass" )
+    @Message
+    (
+        description = "The error message about an abbreviated option that matches more than one option.",
+        translations =
+        {
+            @Translation( language = "en", text = MSG_OptionAmbiguous ),
+            @Translation( language = "de", text = "Die Option '%1$s' ist nicht eindeutig; mögliche Optionen sind %2$s" )
+        }
+    )
+    public static final int MSGKEY_OptionAmbiguous = 39;
+
     /**
      *  The message key for the error message about an invalid option.
      *
@@ -270,6 +306,26 @@ public final class CmdLineException extends ValidationException
     )
     public static final int MSGKEY_OptionMissing = 11;
 
+    /**
+     *  The message key for the error message about an invalid option that is
+     *  similar to a valid one.
+     *
+     *  @see #MSG_OptionUnknown
+     *
+     *  @since 0.25.13
+     */
+    @SuppressWarnings( "StaticMethodOnlyUsedInOneClass" )
+    @Message
+    (
+        description = "The error message about an invalid option that is similar to a valid one.",
+        translations =
+        {
+            @Translation( language = "en", text = MSG_OptionUnknown ),
+            @Translation( language = "de", text = "Die Option '%1$s' ist ungültig; war %2$s gemeint?" )
+        }
+    )
+    public static final int MSGKEY_OptionUnknown = 40;
+
     /**
      *  The message key for the message about an unspecified failure of the
      *  parsing.
@@ -0,0 +1,70 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.spi.CLIDefinition;
+
+/**
+ *  <p>{@summary A parser for command lines that was compiled from a set of
+ *  {@link CLIDefinition}
+ *  instances.}</p>
+ *  <p>An instance is created with
+ *  {@link ConfigUtil#compileCommandLine(java.util.Collection)};
+ *  the definitions are checked, and the table of the option names is built
+ *  only once. Instances are immutable and thread-safe: all state for the
+ *  parsing of a command line is local to the call of
+ *  {@link #parse(String...)},
+ *  so the same instance can parse any number of command lines concurrently.
+ *  The parsed values are passed to the value handlers of the definitions;
+ *  when command lines are parsed concurrently, these have to be
+ *  thread-safe, too.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public interface CmdLineParser
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Parses the given command line arguments and passes the retrieved
+     *  values to the value handlers of the definitions.
+     *
+     *  @param  args    The command line arguments to parse.
+     *  @throws CmdLineException    An error occurred while parsing the
+     *      arguments or a mandatory option or argument is missing on the
+     *      command line.
+     */
+    public void parse( final String... args ) throws CmdLineException;
+}
+//  interface CmdLineParser
+
+/*
+ *  End of File
+ */
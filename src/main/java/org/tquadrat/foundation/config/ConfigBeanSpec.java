@@ -31,10 +31,13 @@ import java.time.ZoneId;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.PropertyName;
+import org.tquadrat.foundation.config.spi.ConfigSnapshotSupport;
 
 /**
  *  <p>{@summary The base for the specification of a configuration bean; the
@@ -74,6 +77,42 @@ public interface ConfigBeanSpec
      */
     public void addListener( final ConfigurationChangeListener listener );
 
+    /**
+     *  <p>{@summary Adds a new
+     *  {@link ConfigurationChangeListener}
+     *  to this configuration bean that will be notified only about the
+     *  changes of the properties whose names are accepted by the given
+     *  filter.}</p>
+     *  <p>The filter is evaluated each time a property is changed; if the
+     *  names of the properties are known in advance,
+     *  {@link #addListener(ConfigurationChangeListener, Set)}
+     *  should be preferred. The generated configuration beans delegate to
+     *  {@link org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport#addListener(ConfigurationChangeListener, Predicate)}.</p>
+     *
+     *  @param  listener    The new listener.
+     *  @param  filter  The filter for the property names.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public void addListener( final ConfigurationChangeListener listener, final Predicate<String> filter );
+
+    /**
+     *  <p>{@summary Adds a new
+     *  {@link ConfigurationChangeListener}
+     *  to this configuration bean that will be notified only about the
+     *  changes of the properties with the given names.}</p>
+     *  <p>The generated configuration beans delegate to
+     *  {@link org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport#addListener(ConfigurationChangeListener, Set)}.</p>
+     *
+     *  @param  listener    The new listener.
+     *  @param  propertyNames   The names of the properties.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public void addListener( final ConfigurationChangeListener listener, final Set<String> propertyNames );
+
     /**
      *  Removes the given
      *  {@link ConfigurationChangeListener}
@@ -179,6 +218,31 @@ public interface ConfigBeanSpec
     @SpecialProperty( CONFIG_PROPERTY_TIMEZONE )
     public ZoneId getTimezone();
 
+    /**
+     *  <p>{@summary Returns an immutable, point-in-time copy of the values of
+     *  all properties of this configuration bean.}</p>
+     *  <p>The default implementation calls all getters of the configuration
+     *  bean, so it is neither cheap nor guaranteed to be consistent when the
+     *  bean is modified concurrently. A configuration bean can maintain its
+     *  snapshot with an instance of
+     *  {@link ConfigSnapshotSupport}
+     *  that is updated by each setter while it still holds the lock for the
+     *  modified property, and override this method; then retrieving the
+     *  snapshot is just the read of a {@code volatile} reference, without
+     *  any locking.</p>
+     *  <p>The specification interface of the configuration bean must be
+     *  accessible for the module {@code org.tquadrat.foundation.config} when
+     *  the default implementation is used.</p>
+     *
+     *  @return The snapshot.
+     *
+     *  @see ConfigSnapshotSupport#createSnapshot(ConfigBeanSpec)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public default ConfigurationSnapshot getSnapshot() { return ConfigSnapshotSupport.createSnapshot( this ); }
+
     /**
      *  Returns a flag that indicates whether the application should produce
      *  debug output of some kind.
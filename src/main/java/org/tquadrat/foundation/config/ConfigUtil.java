@@ -19,13 +19,20 @@
 package org.tquadrat.foundation.config;
 
 import static java.lang.System.err;
+import static java.lang.System.nanoTime;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Comparator.comparing;
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
+import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.config.internal.CLIDefinitionParser.parse;
 import static org.tquadrat.foundation.i18n.I18nUtil.resolveText;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_Object_ARRAY;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
@@ -38,25 +45,42 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.config.internal.ArgumentParser;
+import org.tquadrat.foundation.config.internal.SessionBeanRegistry;
 import org.tquadrat.foundation.config.internal.UsageBuilder;
 import org.tquadrat.foundation.config.spi.CLIArgumentDefinition;
 import org.tquadrat.foundation.config.spi.CLIDefinition;
 import org.tquadrat.foundation.config.spi.CLIOptionDefinition;
+import org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
 import org.tquadrat.foundation.exception.ValidationException;
 import org.tquadrat.foundation.function.tce.TCEBiFunction;
@@ -89,6 +113,18 @@ import org.tquadrat.foundation.lang.AutoLock;
  *  {@code org.tquadrat.foundation.ui} cannot access classes in the
  *  {@code ~.generated} package of the module that uses the configuration, and
  *  that holds the generated configuration beans.</p>
+ *  <p>Alternatively, the module that holds the configuration beans can pass
+ *  its own
+ *  {@link Lookup}
+ *  (as returned by
+ *  {@link java.lang.invoke.MethodHandles#lookup()})
+ *  to
+ *  {@link #getConfiguration(Class, Lookup)}
+ *  or
+ *  {@link #getConfiguration(Class, String, Lookup)};
+ *  a public constructor of the configuration bean class is then resolved only
+ *  once and cached, but each call still checks whether the given lookup has
+ *  access to the bean class.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -101,48 +137,362 @@ import org.tquadrat.foundation.lang.AutoLock;
 @API( status = STABLE, since = "0.0.1" )
 public final class ConfigUtil
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The cached information about the configuration bean class
+     *  for a configuration bean specification.}</p>
+     *  <p>The bean class is resolved only once per specification; the
+     *  constructor handles are resolved on the first use and reused for all
+     *  further instances.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.25.13" )
+    private static final class BeanClassInfo
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The configuration bean class.
+         */
+        private final Class<? extends ConfigBeanSpec> m_BeanClass;
+
+        /**
+         *  The handle for the no-argument constructor of the configuration
+         *  bean class; will be {@null} until it was resolved, and it remains
+         *  {@null} if that constructor is not public.
+         */
+        private volatile MethodHandle m_Constructor = null;
+
+        /**
+         *  The handle for the constructor of the configuration bean class that
+         *  takes the session key; will be {@null} until it was resolved, and
+         *  it remains {@null} if that constructor is not public.
+         */
+        private volatile MethodHandle m_SessionConstructor = null;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code BeanClassInfo} instance.
+         *
+         *  @param  beanClass   The configuration bean class.
+         */
+        public BeanClassInfo( final Class<? extends ConfigBeanSpec> beanClass )
+        {
+            m_BeanClass = beanClass;
+        }   //  BeanClassInfo()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the configuration bean class.
+         *
+         *  @param  <T> The type of the configuration bean specification.
+         *  @return The configuration bean class.
+         */
+        @SuppressWarnings( "unchecked" )
+        public final <T extends ConfigBeanSpec> Class<T> getBeanClass() { return (Class<T>) m_BeanClass; }
+
+        /**
+         *  <p>{@summary Checks whether the given constructor handle may be
+         *  cached.}</p>
+         *  <p>Only the handle for a public constructor is cached; for a cached
+         *  handle, each further call just checks whether the calling lookup
+         *  can access the bean class. The handle for a constructor with
+         *  restricted access is resolved again with the lookup of each
+         *  caller, so that a handle that was found through a privileged
+         *  lookup will never serve a caller without that privilege.</p>
+         *
+         *  @param  lookup  The lookup that was used to resolve the
+         *      constructor.
+         *  @param  constructor The handle for the constructor.
+         *  @return {@true} if the handle may be cached, {@false}
+         *      otherwise.
+         */
+        private static final boolean isCacheable( final Lookup lookup, final MethodHandle constructor )
+        {
+            final var retValue = isPublic( lookup.revealDirect( constructor ).getModifiers() );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isCacheable()
+
+        /**
+         *  Creates a new configuration bean instance, using the no-argument
+         *  constructor.
+         *
+         *  @param  <T> The type of the configuration bean specification.
+         *  @param  lookup  The lookup that is used to resolve the constructor
+         *      if that was not done already, or to check the access to the
+         *      bean class otherwise.
+         *  @return The new configuration bean.
+         *  @throws Exception   The constructor could not be resolved, or it
+         *      failed.
+         */
+        @SuppressWarnings( "unchecked" )
+        public final <T extends ConfigBeanSpec> T newInstance( final Lookup lookup ) throws Exception
+        {
+            var constructor = m_Constructor;
+            if( isNull( constructor ) )
+            {
+                final var direct = resolveConstructor( lookup );
+                constructor = direct.asType( methodType( ConfigBeanSpec.class ) );
+                if( isCacheable( lookup, direct ) ) m_Constructor = constructor;
+            }
+            else
+            {
+                //---* The cached handle must not serve a caller without access *---
+                lookup.accessClass( m_BeanClass );
+            }
+            final T retValue;
+            try
+            {
+                retValue = (T) (ConfigBeanSpec) constructor.invokeExact();
+            }
+            catch( final Exception | Error e )
+            {
+                throw e;
+            }
+            catch( final Throwable t )
+            {
+                throw new InvocationTargetException( t );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  newInstance()
+
+        /**
+         *  Creates a new configuration bean instance, using the constructor
+         *  that takes the session key.
+         *
+         *  @param  <T> The type of the configuration bean specification.
+         *  @param  lookup  The lookup that is used to resolve the constructor
+         *      if that was not done already, or to check the access to the
+         *      bean class otherwise.
+         *  @param  sessionKey  The session key.
+         *  @return The new configuration bean.
+         *  @throws Exception   The constructor could not be resolved, or it
+         *      failed.
+         */
+        @SuppressWarnings( "unchecked" )
+        public final <T extends ConfigBeanSpec> T newInstance( final Lookup lookup, final String sessionKey ) throws Exception
+        {
+            var constructor = m_SessionConstructor;
+            if( isNull( constructor ) )
+            {
+                final var direct = resolveConstructor( lookup, String.class );
+                constructor = direct.asType( methodType( ConfigBeanSpec.class, String.class ) );
+                if( isCacheable( lookup, direct ) ) m_SessionConstructor = constructor;
+            }
+            else
+            {
+                //---* The cached handle must not serve a caller without access *---
+                lookup.accessClass( m_BeanClass );
+            }
+            final T retValue;
+            try
+            {
+                retValue = (T) (ConfigBeanSpec) constructor.invokeExact( sessionKey );
+            }
+            catch( final Exception | Error e )
+            {
+                throw e;
+            }
+            catch( final Throwable t )
+            {
+                throw new InvocationTargetException( t );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  newInstance()
+
+        /**
+         *  Resolves the constructor of the configuration bean class with the
+         *  given parameter types.
+         *
+         *  @param  lookup  The lookup that is used to resolve the
+         *      constructor.
+         *  @param  parameterTypes  The parameter types of the constructor.
+         *  @return The handle for the constructor.
+         *  @throws NoSuchMethodException   There is no such constructor.
+         *  @throws IllegalAccessException  The given lookup has no access to
+         *      the constructor.
+         */
+        private final MethodHandle resolveConstructor( final Lookup lookup, final Class<?>... parameterTypes ) throws NoSuchMethodException, IllegalAccessException
+        {
+            final var retValue = lookup.findConstructor( m_BeanClass, methodType( void.class, parameterTypes ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  resolveConstructor()
+    }
+    //  class BeanClassInfo
+
+    /**
+     *  <p>{@summary The holder for a global configuration bean.}</p>
+     *  <p>The bean will be created on the first request; only callers that
+     *  request the bean for the same specification have to wait for its
+     *  creation. Once the bean exists, retrieving it is a single volatile
+     *  read.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.25.13" )
+    private static final class BeanHolder
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The configuration bean; will be {@null} until it was
+         *  created successfully.
+         */
+        private volatile ConfigBeanSpec m_Bean = null;
+
+        /**
+         *  The lock that guards the creation of the configuration bean.
+         */
+        private final AutoLock m_Lock = AutoLock.of( new ReentrantLock() );
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the configuration bean, creates it if necessary.
+         *
+         *  @param  <T> The type of the configuration bean specification.
+         *  @param  specification   The specification interface for the
+         *      configuration bean.
+         *  @param  factory The factory that instantiates the configuration
+         *      bean.
+         *  @return The configuration bean.
+         */
+        @SuppressWarnings( "unchecked" )
+        public final <T extends ConfigBeanSpec> T getBean( final Class<? extends T> specification, final TCEFunction<Class<T>,T> factory )
+        {
+            var retValue = (T) m_Bean;
+            if( isNull( retValue ) )
+            {
+                try( @SuppressWarnings( "unused" ) final var ignored = m_Lock.lock() )
+                {
+                    retValue = (T) m_Bean;
+                    if( isNull( retValue ) )
+                    {
+                        retValue = loadConfigurationBean( specification, factory );
+                        m_Bean = retValue;
+                    }
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  getBean()
+
+        /**
+         *  Returns the configuration bean without creating it.
+         *
+         *  @return The configuration bean; {@null} if it was not created
+         *      yet.
+         */
+        public final ConfigBeanSpec peekBean() { return m_Bean; }
+    }
+    //  class BeanHolder
+
+    /**
+     *  The key for a pending asynchronous construction of a session
+     *  configuration bean.
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  sessionKey  The session key.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigUtil.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.25.13" )
+    private record PendingSessionBean( Class<?> specification, String sessionKey ) {}
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
     /**
-     *  <p>{@summary The registry for global configuration beans.}</p>
-     *  <p>The key is the configuration bean specification interface, the
-     *  value is the initialised instance of the related configuration
-     *  bean.</p>
+     *  <p>{@summary The cache for the configuration bean classes.}</p>
+     *  <p>The configuration bean class for a configuration bean specification
+     *  is resolved only once, even when the configuration bean is dropped and
+     *  created again.</p>
      */
-    @SuppressWarnings( "StaticCollection" )
-    private static final Map<Class<? extends ConfigBeanSpec>,ConfigBeanSpec> m_ConfigurationBeanRegistry = new HashMap<>();
+    private static final ClassValue<BeanClassInfo> m_BeanClasses = new ClassValue<>()
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final BeanClassInfo computeValue( final Class<?> type )
+        {
+            final var specification = type.asSubclass( ConfigBeanSpec.class );
+            final var className = retrieveClassName( specification );
+            final var beanClass = loadClass( className, specification )
+                .orElseThrow( () -> new ValidationException( "Invalid configuration bean specification: %s".formatted( specification.getName() ), new ClassNotFoundException( className ) ) );
+            final var retValue = new BeanClassInfo( beanClass.asSubclass( ConfigBeanSpec.class ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  computeValue()
+    };
 
     /**
-     *  <p>{@summary The registry for session configuration beans.}</p>
-     *  <p>The key is the configuration bean specification interface, the
-     *  value is a map holding the initialised instances of the related
-     *  configuration beans, indexed by the session identifier.</p>
+     *  The executor that is used for the asynchronous construction of
+     *  configuration beans.
+     *
+     *  @see #getConfigurationAsync(Class, TCEFunction)
+     *  @see #getConfigurationAsync(Class, String, TCEBiFunction)
      */
-    @SuppressWarnings( "StaticCollection" )
-    private static final Map<Class<? extends SessionBeanSpec>,Map<String,? extends SessionBeanSpec>> m_SessionConfigBeanRegistry = new HashMap<>();
+    private static volatile Executor m_ConstructionExecutor = newVirtualThreadPerTaskExecutor();
 
-        /*------------------------*\
-    ====** Static Initialisations **===========================================
-        \*------------------------*/
     /**
-     *  The lock for the
-     *  {@link #m_ConfigurationBeanRegistry}.
+     *  <p>{@summary The pending asynchronous constructions of configuration
+     *  beans.}</p>
+     *  <p>The key is either the configuration bean specification interface,
+     *  or, for session beans, an instance of
+     *  {@link PendingSessionBean}.</p>
      */
-    private static final AutoLock m_ConfigurationBeanRegistryLock;
+    @SuppressWarnings( "StaticCollection" )
+    private static final ConcurrentMap<Object,CompletableFuture<? extends ConfigBeanSpec>> m_PendingConstructions = new ConcurrentHashMap<>();
 
     /**
-     *  The lock for the
-     *  {@link #m_SessionConfigBeanRegistry}.
+     *  <p>{@summary The registry for global configuration beans.}</p>
+     *  <p>The key is the configuration bean specification interface, the
+     *  value is the holder for the related configuration bean.</p>
      */
-    private static final AutoLock m_SessionConfigBeanRegistryLock;
+    @SuppressWarnings( "StaticCollection" )
+    private static final ConcurrentMap<Class<? extends ConfigBeanSpec>,BeanHolder> m_ConfigurationBeanRegistry = new ConcurrentHashMap<>();
 
-    static
-    {
-        //---* Creating the locks *--------------------------------------------
-        m_ConfigurationBeanRegistryLock = AutoLock.of( new ReentrantLock() );
-        m_SessionConfigBeanRegistryLock = AutoLock.of( new ReentrantLock() );
-    }
+    /**
+     *  The registry for session configuration beans.
+     */
+    private static final SessionBeanRegistry m_SessionConfigBeanRegistry = new SessionBeanRegistry();
 
         /*--------------*\
     ====** Constructors **=====================================================
@@ -155,6 +505,70 @@ public final class ConfigUtil
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  <p>{@summary Compiles the given
+     *  {@link CLIDefinition}
+     *  instances into a reusable
+     *  {@link CmdLineParser}.}</p>
+     *  <p>The definitions are validated and indexed only once; the returned
+     *  parser can then be used to parse any number of command lines, also
+     *  concurrently from several threads. This pays off when the same
+     *  definition is applied repeatedly, for example in a server that
+     *  processes command strings.</p>
+     *
+     *  @param  cmdLineDefinition   The definition for the expected/allowed
+     *      command line options and arguments.
+     *  @return The command line parser.
+     *  @throws IllegalArgumentException    The definition is invalid, for
+     *      example because an option name is used more than once, or there
+     *      is a gap in the argument indexes.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final CmdLineParser compileCommandLine( final Collection<? extends CLIDefinition> cmdLineDefinition ) throws IllegalArgumentException
+    {
+        final CmdLineParser retValue = new ArgumentParser( cmdLineDefinition );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compileCommandLine()
+
+    /**
+     *  <p>{@summary Compiles the given
+     *  {@link CLIDefinition}
+     *  instances into a reusable
+     *  {@link CmdLineParser}
+     *  that optionally accepts abbreviations for long options.}</p>
+     *  <p>If abbreviations are allowed, a long option (one that starts with
+     *  two hyphens) can be given by any prefix of its name or of one of its
+     *  aliases, as long as that prefix is unique: {@code --verb} will be
+     *  taken for {@code --verbose}, unless there is also an option
+     *  {@code --verbatim}. The full name of an option always matches, even
+     *  when it is the prefix of another option.</p>
+     *
+     *  @param  cmdLineDefinition   The definition for the expected/allowed
+     *      command line options and arguments.
+     *  @param  allowAbbreviations  {@true} if long options may be
+     *      abbreviated, {@false} if the full names are required.
+     *  @return The command line parser.
+     *  @throws IllegalArgumentException    The definition is invalid, for
+     *      example because an option name is used more than once, or there
+     *      is a gap in the argument indexes.
+     *
+     *  @see #compileCommandLine(Collection)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final CmdLineParser compileCommandLine( final Collection<? extends CLIDefinition> cmdLineDefinition, final boolean allowAbbreviations ) throws IllegalArgumentException
+    {
+        final CmdLineParser retValue = new ArgumentParser( cmdLineDefinition, allowAbbreviations );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compileCommandLine()
+
     /**
      *  <p>{@summary Drops the configuration bean for the given specification
      *  and the given session key.}</p>
@@ -162,6 +576,11 @@ public final class ConfigUtil
      *  identifier: a user id, a session id, a URI, or a UUID.</p>
      *  <p>Nothing happens if the there is not configuration bean for the
      *  given specification and/or session key.</p>
+     *  <p>If the configuration bean implements
+     *  {@link AutoCloseable},
+     *  it will be closed; this applies also to the methods
+     *  {@code dropSessionConfigurations()}, and to the eviction of session
+     *  beans.</p>
      *
      *  @param  <T> The type of the configuration bean specification.
      *  @param  specification   The specification interface for the
@@ -171,17 +590,76 @@ public final class ConfigUtil
     @API( status = STABLE, since = "0.0.1" )
     public static final <T extends SessionBeanSpec> void dropConfiguration( final Class<T> specification, final String sessionKey )
     {
-        requireNonNullArgument( specification, "specification" );
-        requireNotEmptyArgument( sessionKey, "sessionKey" );
-
-        try( @SuppressWarnings( "unused" ) final var ignored = m_SessionConfigBeanRegistryLock.lock() )
-        {
-            @SuppressWarnings( "unchecked" )
-            final var beans = (Map<String,SessionBeanSpec>) m_SessionConfigBeanRegistry.get( specification );
-            if( nonNull( beans ) ) beans.remove( sessionKey );
-        }
+        m_SessionConfigBeanRegistry.drop( requireNonNullArgument( specification, "specification" ), requireNotEmptyArgument( sessionKey, "sessionKey" ) );
     }   //  dropConfiguration()
 
+    /**
+     *  <p>{@summary Drops all session configuration beans for the given
+     *  specification.}</p>
+     *  <p>The cache policy for the specification is retained.</p>
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration beans.
+     *  @return The number of dropped configuration beans.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final int dropSessionConfigurations( final Class<? extends SessionBeanSpec> specification )
+    {
+        return m_SessionConfigBeanRegistry.dropAll( requireNonNullArgument( specification, "specification" ) );
+    }   //  dropSessionConfigurations()
+
+    /**
+     *  <p>{@summary Drops the session configuration beans for all
+     *  specifications whose session keys match the given filter.}</p>
+     *  <p>This can be used to drop all session beans for a tenant, for
+     *  example, when the session keys have the tenant id as a prefix.</p>
+     *
+     *  @param  filter  The filter for the session keys.
+     *  @return The number of dropped configuration beans.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final int dropSessionConfigurations( final Predicate<? super String> filter )
+    {
+        return m_SessionConfigBeanRegistry.dropIf( requireNonNullArgument( filter, "filter" ) );
+    }   //  dropSessionConfigurations()
+
+    /**
+     *  <p>{@summary Drops the session configuration beans for the given
+     *  session key, for all specifications.}</p>
+     *  <p>This should be called when a session ends, or a user logs
+     *  out.</p>
+     *
+     *  @param  sessionKey  The session key.
+     *  @return The number of dropped configuration beans.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final int dropSessionConfigurations( final String sessionKey )
+    {
+        return m_SessionConfigBeanRegistry.dropAll( requireNotEmptyArgument( sessionKey, "sessionKey" ) );
+    }   //  dropSessionConfigurations()
+
+    /**
+     *  <p>{@summary Evicts the session configuration beans that were not used
+     *  for longer than the idle timeout that was configured for their
+     *  specification.}</p>
+     *  <p>Usually, expired session beans are evicted on the next access to a
+     *  session bean for the same specification; this method can be called
+     *  periodically to evict them also for specifications that are not used
+     *  anymore.</p>
+     *
+     *  @see #setSessionBeanCachePolicy(Class, SessionBeanCachePolicy)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final void evictExpiredSessionBeans() { m_SessionConfigBeanRegistry.evictExpired(); }
+
     /**
      *  Dumps a parameter file template for the provided command line
      *  definition to the given
@@ -231,7 +709,11 @@ public final class ConfigUtil
     }   //  dumpParamFileTemplate()
 
     /**
-     *  Retrieves the configuration bean for the given specification.
+     *  <p>{@summary Retrieves the configuration bean for the given
+     *  specification.}</p>
+     *  <p>Once the configuration bean was created, this method does not
+     *  block. While the bean is created, only the callers that request the
+     *  bean for the same specification have to wait.</p>
      *
      *  @param  <T> The type of the configuration bean specification.
      *  @param  specification   The specification interface for the
@@ -242,15 +724,48 @@ public final class ConfigUtil
     @API( status = STABLE, since = "0.0.1" )
     public static final <T extends ConfigBeanSpec> T getConfiguration( final Class<? extends T> specification, final TCEFunction<Class<T>,T> factory )
     {
+        requireNonNullArgument( specification, "specification" );
         requireNonNullArgument( factory, "factory" );
 
-        final T retValue;
-        try( @SuppressWarnings( "unused" ) final var ignored = m_ConfigurationBeanRegistryLock.lock() )
-        {
-            @SuppressWarnings( "unchecked" )
-            final var bean = (T) m_ConfigurationBeanRegistry.computeIfAbsent( requireNonNullArgument( specification, "specification" ), aClass -> loadConfigurationBean( aClass, factory ) );
-            retValue = bean;
-        }
+        var holder = m_ConfigurationBeanRegistry.get( specification );
+        if( isNull( holder ) ) holder = m_ConfigurationBeanRegistry.computeIfAbsent( specification, _ -> new BeanHolder() );
+        final var retValue = holder.getBean( specification, factory );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getConfiguration()
+
+    /**
+     *  <p>{@summary Retrieves the configuration bean for the given
+     *  specification, using the given
+     *  {@link Lookup}
+     *  to instantiate it.}</p>
+     *  <p>The constructor of the configuration bean class is resolved only
+     *  once through the given lookup and cached as a
+     *  {@link MethodHandle};
+     *  no reflection is used when the bean is created again later. The
+     *  lookup is usually obtained by a call to
+     *  {@link java.lang.invoke.MethodHandles#lookup()}
+     *  from inside the module that holds the generated configuration
+     *  beans.</p>
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  lookup  The lookup that has access to the constructor of the
+     *      configuration bean class.
+     *  @return The configuration bean.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final <T extends ConfigBeanSpec> T getConfiguration( final Class<? extends T> specification, final Lookup lookup )
+    {
+        requireNonNullArgument( specification, "specification" );
+        requireNonNullArgument( lookup, "lookup" );
+
+        final TCEFunction<Class<T>,T> factory = _ -> m_BeanClasses.get( specification ).newInstance( lookup );
+        final var retValue = getConfiguration( specification, factory );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -261,6 +776,9 @@ public final class ConfigUtil
      *  specification and the given session key.}</p>
      *  <p>The &quot;session key&quot; can be any arbitrary kind of unique
      *  identifier: a user id, a session id, a URI, or a UUID.</p>
+     *  <p>Retrieving an existing session bean does not block; while a
+     *  session bean is created, only the callers that request the bean for
+     *  the same specification and the same session key have to wait.</p>
      *
      *  @param  <T> The type of the configuration bean specification.
      *  @param  specification   The specification interface for the
@@ -272,22 +790,182 @@ public final class ConfigUtil
     @API( status = STABLE, since = "0.0.1" )
     public static final <T extends SessionBeanSpec> T getConfiguration( final Class<? extends T> specification, final String sessionKey, final TCEBiFunction<Class<T>, ? super String, T> factory )
     {
+        requireNonNullArgument( specification, "specification" );
+        requireNotEmptyArgument( sessionKey, "sessionKey" );
         requireNonNullArgument( factory, "factory" );
 
-        final T retValue;
-        try( @SuppressWarnings( "unused" ) final var ignored = m_SessionConfigBeanRegistryLock.lock() )
-        {
-            @SuppressWarnings( "unchecked" )
-            final var beans = (Map<String,SessionBeanSpec>) m_SessionConfigBeanRegistry.computeIfAbsent( requireNonNullArgument( specification, "specification" ), _ -> new HashMap<>() );
-            @SuppressWarnings( "unchecked" )
-            final var bean = (T) beans.computeIfAbsent( requireNotEmptyArgument( sessionKey, "sessionKey" ), s -> loadSessionBean( specification, s, factory ) );
-            retValue = bean;
-        }
+        final T retValue = m_SessionConfigBeanRegistry.getBean( specification, sessionKey, s -> loadSessionBean( specification, s, factory ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  getConfiguration()
 
+    /**
+     *  <p>{@summary Retrieves the configuration bean for the given
+     *  specification and the given session key, using the given
+     *  {@link Lookup}
+     *  to instantiate it.}</p>
+     *  <p>The constructor of the configuration bean class is resolved only
+     *  once through the given lookup and cached as a
+     *  {@link MethodHandle};
+     *  no reflection is used when further session beans are created for
+     *  the same specification.</p>
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  sessionKey  The session key.
+     *  @param  lookup  The lookup that has access to the constructor of the
+     *      configuration bean class.
+     *  @return The configuration bean.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final <T extends SessionBeanSpec> T getConfiguration( final Class<? extends T> specification, final String sessionKey, final Lookup lookup )
+    {
+        requireNonNullArgument( specification, "specification" );
+        requireNonNullArgument( lookup, "lookup" );
+
+        final TCEBiFunction<Class<T>,String,T> factory = (_, s) -> m_BeanClasses.get( specification ).newInstance( lookup, s );
+        final var retValue = getConfiguration( specification, sessionKey, factory );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getConfiguration()
+
+    /**
+     *  <p>{@summary Retrieves the configuration bean for the given
+     *  specification asynchronously.}</p>
+     *  <p>If the bean exists already, the returned future is already
+     *  completed. Otherwise the factory will be called on the executor that
+     *  was set with
+     *  {@link #setConstructionExecutor(Executor)}
+     *  (by default, a new virtual thread is used for each construction).
+     *  Concurrent requests for the same specification share the same
+     *  construction.</p>
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  factory The factory that instantiates the configuration bean.
+     *  @return The future for the configuration bean.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final <T extends ConfigBeanSpec> CompletableFuture<T> getConfigurationAsync( final Class<? extends T> specification, final TCEFunction<Class<T>,T> factory )
+    {
+        requireNonNullArgument( specification, "specification" );
+        requireNonNullArgument( factory, "factory" );
+
+        final var holder = m_ConfigurationBeanRegistry.get( specification );
+        @SuppressWarnings( "unchecked" )
+        final var bean = nonNull( holder ) ? (T) holder.peekBean() : null;
+        final CompletableFuture<T> retValue = nonNull( bean )
+            ? CompletableFuture.completedFuture( bean )
+            : constructAsync( specification, () -> getConfiguration( specification, factory ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getConfigurationAsync()
+
+    /**
+     *  <p>{@summary Retrieves the configuration bean for the given
+     *  specification and the given session key asynchronously.}</p>
+     *  <p>If the bean exists already, the returned future is already
+     *  completed. Otherwise the factory will be called on the executor that
+     *  was set with
+     *  {@link #setConstructionExecutor(Executor)}
+     *  (by default, a new virtual thread is used for each construction).
+     *  Concurrent requests for the same specification and the same session
+     *  key share the same construction.</p>
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  sessionKey  The session key.
+     *  @param  factory The factory that instantiates the configuration bean.
+     *  @return The future for the configuration bean.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final <T extends SessionBeanSpec> CompletableFuture<T> getConfigurationAsync( final Class<? extends T> specification, final String sessionKey, final TCEBiFunction<Class<T>, ? super String, T> factory )
+    {
+        requireNonNullArgument( specification, "specification" );
+        requireNotEmptyArgument( sessionKey, "sessionKey" );
+        requireNonNullArgument( factory, "factory" );
+
+        final T bean = m_SessionConfigBeanRegistry.getBeanIfPresent( specification, sessionKey );
+        final CompletableFuture<T> retValue = nonNull( bean )
+            ? CompletableFuture.completedFuture( bean )
+            : constructAsync( new PendingSessionBean( specification, sessionKey ), () -> getConfiguration( specification, sessionKey, factory ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getConfigurationAsync()
+
+    /**
+     *  Constructs a configuration bean asynchronously; concurrent requests
+     *  with the same key share the same construction.
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  key The key for the construction.
+     *  @param  construction    The construction.
+     *  @return The future for the configuration bean.
+     */
+    @SuppressWarnings( "unchecked" )
+    private static final <T extends ConfigBeanSpec> CompletableFuture<T> constructAsync( final Object key, final Supplier<? extends T> construction )
+    {
+        final var future = new CompletableFuture<T>();
+        final var pending = (CompletableFuture<T>) m_PendingConstructions.putIfAbsent( key, future );
+        final CompletableFuture<T> retValue;
+        if( isNull( pending ) )
+        {
+            /*
+             * The task is submitted only after the future was registered, so
+             * that a synchronous executor cannot modify the registry while it
+             * is updated.
+             */
+            try
+            {
+                m_ConstructionExecutor.execute( () ->
+                {
+                    try
+                    {
+                        future.complete( construction.get() );
+                    }
+                    catch( final Throwable t )
+                    {
+                        future.completeExceptionally( t );
+                    }
+                    finally
+                    {
+                        m_PendingConstructions.remove( key, future );
+                    }
+                } );
+            }
+            catch( final RejectedExecutionException e )
+            {
+                m_PendingConstructions.remove( key, future );
+                future.completeExceptionally( e );
+            }
+            retValue = future;
+        }
+        else
+        {
+            retValue = pending;
+        }
+
+        //---* Done *----------------------------------------------------------
+        /*
+         * The callers get a copy so that they cannot complete or cancel the
+         * shared construction for the others.
+         */
+        return retValue.copy();
+    }   //  constructAsync()
+
     /**
      *  Retrieves the configuration bean class and loads it.
      *
@@ -299,12 +977,11 @@ public final class ConfigUtil
      */
     private static final <T extends ConfigBeanSpec> T loadConfigurationBean( final Class<? extends ConfigBeanSpec> specification, final TCEFunction<? super Class<T>, T> factory )
     {
-        final var className = retrieveClassName( specification );
+        final var beanClassInfo = m_BeanClasses.get( specification );
         T retValue = null;
         try
         {
-            @SuppressWarnings( "unchecked" )
-            final var beanClass = (Class<T>) loadClass( className, specification ).orElseThrow( () -> new ClassNotFoundException( className ) );
+            final Class<T> beanClass = beanClassInfo.getBeanClass();
             retValue = factory.apply( beanClass );
         }
         catch( final ClassNotFoundException e )
@@ -336,12 +1013,11 @@ public final class ConfigUtil
      */
     private static final <T extends ConfigBeanSpec> T loadSessionBean( final Class<? extends T> specification, final String sessionKey, final TCEBiFunction<? super Class<T>, ? super String, T> factory )
     {
-        final var className = retrieveClassName( specification );
+        final var beanClassInfo = m_BeanClasses.get( specification );
         T retValue = null;
         try
         {
-            @SuppressWarnings( "unchecked" )
-            final var beanClass = (Class<T>) loadClass( className, specification ).orElseThrow( () -> new ClassNotFoundException( "className" ) );
+            final Class<T> beanClass = beanClassInfo.getBeanClass();
             retValue = factory.apply( beanClass, sessionKey );
         }
         catch( final ClassNotFoundException e )
@@ -370,6 +1046,8 @@ public final class ConfigUtil
      *      command line options and arguments.
      *  @param  args    The command line arguments.
      *  @throws CmdLineException    The parsing failed for some reason.
+     *
+     *  @see #compileCommandLine(Collection)
      */
     @API( status = STABLE, since = "0.0.1" )
     public static final void parseCommandLine( final Collection<? extends CLIDefinition> cmdLineDefinition, final String... args ) throws CmdLineException
@@ -462,6 +1140,121 @@ public final class ConfigUtil
         return retValue;
     }   //  parseCommandLine()
 
+    /**
+     *  <p>{@summary Creates the configuration beans for the given
+     *  specifications concurrently.}</p>
+     *  <p>This method is meant to be called during the start of the
+     *  application, so that the costs for loading the preferences, the INI
+     *  files and the resource bundles are not put on the first access to a
+     *  configuration bean. It waits until all configuration beans are
+     *  created.</p>
+     *  <p>Session configuration beans cannot be created in advance as they
+     *  require a session key; their specifications will be ignored.</p>
+     *
+     *  @param  specifications  The specification interfaces for the
+     *      configuration beans.
+     *  @param  lookup  The lookup object that has access to the constructors
+     *      of the configuration bean classes.
+     *  @param  executor    The executor that creates the configuration beans.
+     *  @return The time that was needed to create each configuration bean;
+     *      the map is in the order of the specifications.
+     *  @throws ValidationException At least one of the configuration beans
+     *      could not be created; the other failures are attached as
+     *      suppressed exceptions.
+     *
+     *  @see #getConfiguration(Class, Lookup)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final Map<Class<? extends ConfigBeanSpec>,Duration> preload( final Collection<Class<? extends ConfigBeanSpec>> specifications, final Lookup lookup, final Executor executor ) throws ValidationException
+    {
+        requireNonNullArgument( specifications, "specifications" );
+        requireNonNullArgument( lookup, "lookup" );
+        requireNonNullArgument( executor, "executor" );
+
+        final Map<Class<? extends ConfigBeanSpec>,CompletableFuture<Duration>> futures = new LinkedHashMap<>();
+        for( final var specification : specifications )
+        {
+            if( !SessionBeanSpec.class.isAssignableFrom( requireNonNullArgument( specification, "specification" ) ) )
+            {
+                futures.computeIfAbsent( specification, s -> CompletableFuture.supplyAsync( () ->
+                {
+                    final var start = nanoTime();
+                    getConfiguration( s, lookup );
+                    return Duration.ofNanos( nanoTime() - start );
+                }, executor ) );
+            }
+        }
+
+        final Map<Class<? extends ConfigBeanSpec>,Duration> retValue = new LinkedHashMap<>();
+        ValidationException failure = null;
+        for( final var entry : futures.entrySet() )
+        {
+            try
+            {
+                retValue.put( entry.getKey(), entry.getValue().join() );
+            }
+            catch( final CompletionException | CancellationException e )
+            {
+                final var cause = isNull( e.getCause() ) ? e : e.getCause();
+                if( isNull( failure ) )
+                {
+                    failure = new ValidationException( "Unable to preload the configuration bean for specification: %s".formatted( entry.getKey().getName() ), cause );
+                }
+                else
+                {
+                    failure.addSuppressed( cause );
+                }
+            }
+        }
+        if( nonNull( failure ) ) throw failure;
+
+        //---* Done *----------------------------------------------------------
+        return unmodifiableMap( retValue );
+    }   //  preload()
+
+    /**
+     *  <p>{@summary Creates the configuration beans for all specifications
+     *  that can be found through the
+     *  {@link ServiceLoader}
+     *  concurrently.}</p>
+     *  <p>The configuration bean classes must be registered as providers for
+     *  the service
+     *  {@link ConfigBeanSpec}
+     *  (either with a {@code provides} clause in the {@code module-info}
+     *  of the module that holds them, or in a file
+     *  {@code META-INF/services/org.tquadrat.foundation.config.ConfigBeanSpec}).
+     *  The providers will not be instantiated by the {@code ServiceLoader};
+     *  only their types are used to determine the specification interfaces,
+     *  and the beans are created as with
+     *  {@link #preload(Collection, Lookup, Executor)}.</p>
+     *
+     *  @param  lookup  The lookup object that has access to the constructors
+     *      of the configuration bean classes.
+     *  @param  executor    The executor that creates the configuration beans.
+     *  @return The time that was needed to create each configuration bean.
+     *  @throws ValidationException At least one of the configuration beans
+     *      could not be created.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final Map<Class<? extends ConfigBeanSpec>,Duration> preload( final Lookup lookup, final Executor executor ) throws ValidationException
+    {
+        final List<Class<? extends ConfigBeanSpec>> specifications = ServiceLoader.load( ConfigBeanSpec.class )
+            .stream()
+            .map( Provider::type )
+            .map( ConfigUtil::retrieveSpecification )
+            .flatMap( Optional::stream )
+            .distinct()
+            .toList();
+        final var retValue = preload( specifications, lookup, executor );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  preload()
+
     /**
      *  Prints a <i>usage</i> message to the given
      *  {@link OutputStream}.
@@ -518,6 +1311,109 @@ public final class ConfigUtil
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  retrieveClassName()
+
+    /**
+     *  Determines the configuration bean specification interface that is
+     *  implemented by the given configuration bean class.
+     *
+     *  @param  beanClass   The configuration bean class.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the specification interface; empty if the class does
+     *      not implement an interface that is annotated with
+     *      {@link ConfigurationBeanSpecification &#64;ConfigurationBeanSpecification}.
+     */
+    @SuppressWarnings( "unchecked" )
+    private static final Optional<Class<? extends ConfigBeanSpec>> retrieveSpecification( final Class<?> beanClass )
+    {
+        Optional<Class<? extends ConfigBeanSpec>> retValue = Optional.empty();
+        Class<?> currentClass = beanClass;
+        while( retValue.isEmpty() && nonNull( currentClass ) )
+        {
+            for( final var candidate : currentClass.getInterfaces() )
+            {
+                if( candidate.isAnnotationPresent( ConfigurationBeanSpecification.class ) && ConfigBeanSpec.class.isAssignableFrom( candidate ) )
+                {
+                    retValue = Optional.of( (Class<? extends ConfigBeanSpec>) candidate );
+                    break;
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveSpecification()
+
+    /**
+     *  <p>{@summary Sets the executor that is used for the asynchronous
+     *  construction of configuration beans.}</p>
+     *  <p>By default, each construction gets its own virtual thread.</p>
+     *
+     *  @param  executor    The executor.
+     *
+     *  @see #getConfigurationAsync(Class, TCEFunction)
+     *  @see #getConfigurationAsync(Class, String, TCEBiFunction)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final void setConstructionExecutor( final Executor executor )
+    {
+        m_ConstructionExecutor = requireNonNullArgument( executor, "executor" );
+    }   //  setConstructionExecutor()
+
+    /**
+     *  <p>{@summary Sets the policy that limits the number and the lifetime
+     *  of the session configuration beans for the given specification.}</p>
+     *  <p>Without a policy, the session beans are kept until they are dropped
+     *  explicitly by a call to
+     *  {@link #dropConfiguration(Class, String)}.</p>
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  policy  The policy; use
+     *      {@link SessionBeanCachePolicy#UNBOUNDED}
+     *      to remove all limits.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final void setSessionBeanCachePolicy( final Class<? extends SessionBeanSpec> specification, final SessionBeanCachePolicy policy )
+    {
+        m_SessionConfigBeanRegistry.setPolicy( specification, policy );
+    }   //  setSessionBeanCachePolicy()
+
+    /**
+     *  <p>{@summary Releases the resources that are held for the
+     *  configuration beans; this is intended to be called on application
+     *  shutdown.}</p>
+     *  <p>All session configuration beans are dropped, then the threads that
+     *  notify the listeners for the configuration beans are released, after
+     *  the pending notifications were delivered or the given timeout
+     *  elapsed. The global configuration beans are retained.</p>
+     *
+     *  @param  timeout The maximum time to wait for the pending
+     *      notifications.
+     *  @return {@true} if all pending notifications were delivered,
+     *      {@false} if the timeout elapsed before.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting.
+     *
+     *  @see ConfigChangeListenerSupport#shutdownSharedExecutor(Duration)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final boolean shutdown( final Duration timeout ) throws InterruptedException
+    {
+        requireNonNullArgument( timeout, "timeout" );
+        m_SessionConfigBeanRegistry.dropIf( _ -> true );
+        final var retValue = ConfigChangeListenerSupport.shutdownSharedExecutor( timeout );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  shutdown()
 }
 //  class ConfigUtil
 
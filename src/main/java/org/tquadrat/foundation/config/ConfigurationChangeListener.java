@@ -21,6 +21,7 @@ package org.tquadrat.foundation.config;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.EventListener;
+import java.util.List;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -34,8 +35,10 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  {@link org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport#fireEvent(String, Object, Object)}
  *  each time a property of a configuration bean is changed.</p>
  *
- *  @note   The listener method is executed asynchronously through a dedicated
- *      thread.
+ *  @note   The listener method is executed asynchronously through the
+ *      notifier executor of the configuration bean, unless the listener was
+ *      registered with
+ *      {@link DispatchMode#SYNCHRONOUS}.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: ConfigurationChangeListener.java 1030 2022-04-06 13:42:02Z tquadrat $
@@ -54,9 +57,12 @@ public interface ConfigurationChangeListener extends EventListener
     /**
      *  This method gets called when a configuration property has changed.
      *
-     *  @note   This method is executed asynchronously through a dedicated
-     *      thread. The configuration bean may be still locked when this method
-     *      is invoked.
+     *  @note   This method is executed asynchronously through the notifier
+     *      executor of the configuration bean, or directly by the thread
+     *      that modified the property if the listener was registered with
+     *      {@link DispatchMode#SYNCHRONOUS}.
+     *      The configuration bean may be still locked when this method is
+     *      invoked.
      *
      *  @param  event   A
      *      {@link ConfigurationChangeEvent} object describing the event source
@@ -64,6 +70,27 @@ public interface ConfigurationChangeListener extends EventListener
      */
     @SuppressWarnings( "UseOfConcreteClass" )
     public void propertyChange( ConfigurationChangeEvent event );
+
+    /**
+     *  <p>{@summary This method gets called with all changes of a bulk
+     *  update of a configuration bean.}</p>
+     *  <p>The default implementation calls
+     *  {@link #propertyChange(ConfigurationChangeEvent)}
+     *  for each event; a listener can override this method to process all
+     *  changes at once.</p>
+     *
+     *  @param  events  The events, one for each changed property; the list
+     *      cannot be modified.
+     *
+     *  @see org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport#beginBulkUpdate()
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public default void propertiesChanged( final List<ConfigurationChangeEvent> events )
+    {
+        for( final var event : events ) propertyChange( event );
+    }   //  propertiesChanged()
 }
 //  interface ConfigurationChangeListener
 
@@ -0,0 +1,211 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableSortedMap;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary An immutable, point-in-time copy of the values of all
+ *  properties of a configuration bean.}</p>
+ *  <p>A snapshot is consistent: all values were taken at the same time, and
+ *  they will not change when the configuration bean is modified afterwards.
+ *  Reading from a snapshot does not require any locking, so it is the
+ *  preferred way to access many properties of a configuration bean at
+ *  once.</p>
+ *  <p>The values are stored as returned by the getters of the
+ *  configuration bean; a value can be {@null}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see ConfigBeanSpec#getSnapshot()
+ *  @see org.tquadrat.foundation.config.spi.ConfigSnapshotSupport
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public final class ConfigurationSnapshot
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The values of the properties; the name of the property is the key.
+     */
+    private final Map<String,Object> m_Values;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ConfigurationSnapshot} instance.
+     *
+     *  @param  values  The values of the properties; the name of the property
+     *      is the key.
+     */
+    public ConfigurationSnapshot( final Map<String,?> values )
+    {
+        this( new TreeMap<String,Object>( requireNonNullArgument( values, "values" ) ) );
+    }   //  ConfigurationSnapshot()
+
+    /**
+     *  Creates a new {@code ConfigurationSnapshot} instance from a map that
+     *  was already copied; the map is not copied again.
+     *
+     *  @param  values  The values of the properties; the name of the property
+     *      is the key. The map must not be modified afterwards.
+     */
+    private ConfigurationSnapshot( final TreeMap<String,Object> values )
+    {
+        /*
+         * The map stays sorted, so that the copy in with() is built in
+         * linear time.
+         */
+        m_Values = unmodifiableSortedMap( values );
+    }   //  ConfigurationSnapshot()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the names of all properties in this snapshot.
+     *
+     *  @return The property names, in alphabetical order.
+     */
+    public final Set<String> getPropertyNames() { return unmodifiableSet( m_Values.keySet() ); }
+
+    /**
+     *  Returns the value for the given property.
+     *
+     *  @param  propertyName    The name of the property.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the value; empty if the property does not exist, or
+     *      its value is {@null}.
+     */
+    public final Optional<Object> getValue( final String propertyName )
+    {
+        return Optional.ofNullable( m_Values.get( requireNotEmptyArgument( propertyName, "propertyName" ) ) );
+    }   //  getValue()
+
+    /**
+     *  Returns the value for the given property, converted to the given
+     *  type.
+     *
+     *  @param  <T> The type of the property.
+     *  @param  propertyName    The name of the property.
+     *  @param  type    The type of the property.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the value; empty if the property does not exist, or
+     *      its value is {@null}.
+     *  @throws ClassCastException  The value of the property is not of the
+     *      given type.
+     */
+    public final <T> Optional<T> getValue( final String propertyName, final Class<T> type ) throws ClassCastException
+    {
+        requireNonNullArgument( type, "type" );
+        final var retValue = getValue( propertyName ).map( type::cast );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getValue()
+
+    /**
+     *  Returns the values of all properties.
+     *
+     *  @return An unmodifiable map with the values; the name of the property
+     *      is the key.
+     */
+    public final Map<String,Object> getValues() { return m_Values; }
+
+    /**
+     *  Returns a flag that indicates whether this snapshot contains the given
+     *  property.
+     *
+     *  @param  propertyName    The name of the property.
+     *  @return {@true} if the property exists, {@false} otherwise.
+     */
+    public final boolean hasProperty( final String propertyName )
+    {
+        return m_Values.containsKey( requireNotEmptyArgument( propertyName, "propertyName" ) );
+    }   //  hasProperty()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return m_Values.toString(); }
+
+    /**
+     *  Returns a copy of this snapshot with the given value for the given
+     *  property.
+     *
+     *  @param  propertyName    The name of the property.
+     *  @param  value   The new value; can be {@null}.
+     *  @return The new snapshot.
+     */
+    public final ConfigurationSnapshot with( final String propertyName, final Object value )
+    {
+        requireNotEmptyArgument( propertyName, "propertyName" );
+        final var values = new TreeMap<>( m_Values );
+        values.put( propertyName, value );
+        final var retValue = new ConfigurationSnapshot( values );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  with()
+
+    /**
+     *  Returns a copy of this snapshot with the given values for the given
+     *  properties.
+     *
+     *  @param  values  The new values; the name of the property is the key.
+     *  @return The new snapshot.
+     */
+    public final ConfigurationSnapshot with( final Map<String,?> values )
+    {
+        requireNonNullArgument( values, "values" );
+        final var newValues = new TreeMap<>( m_Values );
+        newValues.putAll( values );
+        final var retValue = new ConfigurationSnapshot( newValues );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  with()
+}
+//  class ConfigurationSnapshot
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,81 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  The modes for the delivery of
+ *  {@linkplain ConfigurationChangeEvent configuration change events}
+ *  to a
+ *  {@link ConfigurationChangeListener}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport#addListener(ConfigurationChangeListener, DispatchMode)
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public enum DispatchMode
+{
+        /*------------------*\
+    ====** Enum Declaration **=================================================
+        \*------------------*/
+    /**
+     *  Each event is delivered as a separate task through the notifier
+     *  executor of the configuration bean. The listener may see the events
+     *  in a different order than they were fired, and it may be called
+     *  concurrently from several threads. This is the default.
+     */
+    ASYNCHRONOUS,
+
+    /**
+     *  The events are delivered through the notifier executor of the
+     *  configuration bean, but one after the other, in the order they were
+     *  fired; the listener will never be called concurrently with itself, so
+     *  it does not need its own locking. Different listeners are still
+     *  notified in parallel.
+     */
+    ORDERED,
+
+    /**
+     *  <p>{@summary The listener is called directly by the thread that fired
+     *  the event, without any hand-off to an executor.}</p>
+     *  <p>This is the cheapest mode for listeners that do only a trivial
+     *  amount of work, like setting a flag. As the configuration bean may be
+     *  still locked when the listener is called, the listener must return
+     *  quickly, and it must not modify the configuration bean. An exception
+     *  thrown by the listener will not be propagated to the caller of the
+     *  setter; it is passed to the uncaught exception handler of the current
+     *  thread instead.</p>
+     */
+    SYNCHRONOUS
+}
+//  enum DispatchMode
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,90 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  The policies for the handling of a
+ *  {@linkplain ConfigurationChangeEvent configuration change event}
+ *  when the queue with the pending notifications for a
+ *  {@link ConfigurationChangeListener}
+ *  is full.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see org.tquadrat.foundation.config.spi.ConfigChangeListenerSupport#setQueueLimit(int, OverflowPolicy)
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public enum OverflowPolicy
+{
+        /*------------------*\
+    ====** Enum Declaration **=================================================
+        \*------------------*/
+    /**
+     *  <p>{@summary The thread that fired the event waits until the listener
+     *  has taken a notification from the queue.} If that thread is the one
+     *  that currently notifies the listener, it does not wait, as this would
+     *  never end; instead, the notification is added beyond the limit. If
+     *  the waiting thread is interrupted, the event is dropped.</p>
+     *  <p>This policy requires an executor that is dedicated to the
+     *  notifications: a waiting thread of the executor would wait for a task
+     *  that is queued behind it. On a thread of the shared default executor,
+     *  the event is rejected with a
+     *  {@link java.util.concurrent.RejectedExecutionException}
+     *  instead of waiting.</p>
+     */
+    BLOCK,
+
+    /**
+     *  <p>{@summary A pending notification for the same property is replaced
+     *  by one with the old value of the pending and the new value of the
+     *  current event}; the notification keeps its position in the
+     *  queue.</p>
+     *  <p>If there is no pending notification for the same property, the
+     *  oldest notification will be dropped, as with
+     *  {@link #DROP_OLDEST}.</p>
+     */
+    COALESCE,
+
+    /**
+     *  The oldest pending notification will be dropped.
+     */
+    DROP_OLDEST,
+
+    /**
+     *  The event is dropped, and a
+     *  {@link java.util.concurrent.RejectedExecutionException}
+     *  is thrown to the thread that fired it.
+     */
+    FAIL
+}
+//  enum OverflowPolicy
+
+/*
+ *  End of File
+ */
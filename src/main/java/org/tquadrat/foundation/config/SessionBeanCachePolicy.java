@@ -0,0 +1,205 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The policy that bounds the number and the lifetime of the
+ *  session configuration beans that are kept by
+ *  {@link ConfigUtil}
+ *  for a configuration bean specification.}</p>
+ *  <p>Instances of this class are immutable; the {@code with…()} methods
+ *  return a modified copy.</p>
+ *  <p>When the maximum number of session beans is exceeded, the least
+ *  recently used beans are evicted until the number of beans dropped to
+ *  about fifteen sixteenth of the maximum; evicting a batch at once keeps the
+ *  costs for the maintenance low. Session beans that were not used for
+ *  longer than the idle timeout are evicted, too. Both happens on the next
+ *  access to a session bean for the same specification, or on a call to
+ *  {@link ConfigUtil#evictExpiredSessionBeans()}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see ConfigUtil#setSessionBeanCachePolicy(Class, SessionBeanCachePolicy)
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public final class SessionBeanCachePolicy
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The policy that does not limit the session beans at all. This is the
+     *  default.
+     */
+    public static final SessionBeanCachePolicy UNBOUNDED = new SessionBeanCachePolicy( Integer.MAX_VALUE, null, null );
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The listener that is notified about evictions; can be {@null}.
+     */
+    private final SessionBeanEvictionListener m_EvictionListener;
+
+    /**
+     *  The idle timeout; {@null} if the session beans will not expire.
+     */
+    private final Duration m_IdleTimeout;
+
+    /**
+     *  The maximum number of session beans per specification.
+     */
+    private final int m_MaximumSize;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SessionBeanCachePolicy} instance.
+     *
+     *  @param  maximumSize The maximum number of session beans per
+     *      specification.
+     *  @param  idleTimeout The idle timeout; {@null} if the session beans
+     *      will not expire.
+     *  @param  evictionListener    The listener that is notified about
+     *      evictions; can be {@null}.
+     */
+    private SessionBeanCachePolicy( final int maximumSize, final Duration idleTimeout, final SessionBeanEvictionListener evictionListener )
+    {
+        m_MaximumSize = maximumSize;
+        m_IdleTimeout = idleTimeout;
+        m_EvictionListener = evictionListener;
+    }   //  SessionBeanCachePolicy()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the listener that is notified about evictions.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the eviction listener.
+     */
+    public final Optional<SessionBeanEvictionListener> getEvictionListener() { return Optional.ofNullable( m_EvictionListener ); }
+
+    /**
+     *  Returns the idle timeout.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the idle timeout; empty if the session beans will not
+     *      expire.
+     */
+    public final Optional<Duration> getIdleTimeout() { return Optional.ofNullable( m_IdleTimeout ); }
+
+    /**
+     *  Returns the maximum number of session beans per specification.
+     *
+     *  @return The maximum number of session beans;
+     *      {@link Integer#MAX_VALUE}
+     *      if the number is not limited.
+     */
+    public final int getMaximumSize() { return m_MaximumSize; }
+
+    /**
+     *  Returns a flag that indicates whether this policy limits the session
+     *  beans in any way.
+     *
+     *  @return {@true} if either the maximum size or the idle timeout is
+     *      set, {@false} if the session beans are not limited at all.
+     */
+    public final boolean isBounded() { return (m_MaximumSize < Integer.MAX_VALUE) || nonNull( m_IdleTimeout ); }
+
+    /**
+     *  Returns a copy of this policy with the given eviction listener.
+     *
+     *  @param  evictionListener    The listener that is notified about
+     *      evictions.
+     *  @return The new policy.
+     */
+    public final SessionBeanCachePolicy withEvictionListener( final SessionBeanEvictionListener evictionListener )
+    {
+        final var retValue = new SessionBeanCachePolicy( m_MaximumSize, m_IdleTimeout, requireNonNullArgument( evictionListener, "evictionListener" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  withEvictionListener()
+
+    /**
+     *  Returns a copy of this policy with the given idle timeout.
+     *
+     *  @param  idleTimeout The idle timeout; must be positive.
+     *  @return The new policy.
+     *  @throws IllegalArgumentException    The idle timeout is zero or
+     *      negative.
+     */
+    public final SessionBeanCachePolicy withIdleTimeout( final Duration idleTimeout ) throws IllegalArgumentException
+    {
+        if( requireNonNullArgument( idleTimeout, "idleTimeout" ).isNegative() || idleTimeout.isZero() )
+        {
+            throw new IllegalArgumentException( "The idle timeout must be positive: %s".formatted( idleTimeout ) );
+        }
+        final var retValue = new SessionBeanCachePolicy( m_MaximumSize, idleTimeout, m_EvictionListener );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  withIdleTimeout()
+
+    /**
+     *  Returns a copy of this policy with the given maximum number of session
+     *  beans per specification.
+     *
+     *  @param  maximumSize The maximum number of session beans; must be
+     *      greater than 0.
+     *  @return The new policy.
+     *  @throws IllegalArgumentException    The maximum size is less than 1.
+     */
+    public final SessionBeanCachePolicy withMaximumSize( final int maximumSize ) throws IllegalArgumentException
+    {
+        if( maximumSize < 1 )
+        {
+            throw new IllegalArgumentException( "The maximum size must be greater than 0: %d".formatted( maximumSize ) );
+        }
+        final var retValue = new SessionBeanCachePolicy( maximumSize, m_IdleTimeout, m_EvictionListener );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  withMaximumSize()
+}
+//  class SessionBeanCachePolicy
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,100 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.util.EventListener;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The definition of a listener that is notified each time a
+ *  session configuration bean was evicted from the registry by
+ *  {@link ConfigUtil}.}</p>
+ *  <p>The listener is called synchronously by the thread that detected that
+ *  the bean has to be evicted; therefore it should return quickly, and it
+ *  should not throw any exception.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see SessionBeanCachePolicy
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+@FunctionalInterface
+public interface SessionBeanEvictionListener extends EventListener
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The reasons for the eviction of a session configuration bean.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.25.13" )
+    public enum Cause
+    {
+            /*------------------*\
+        ====** Enum Declaration **=============================================
+            \*------------------*/
+        /**
+         *  The bean was evicted because the maximum number of session beans
+         *  for the specification was exceeded, and it was one of the least
+         *  recently used.
+         */
+        CAPACITY,
+
+        /**
+         *  The bean was evicted because it was not used for longer than the
+         *  configured idle timeout.
+         */
+        EXPIRED
+    }
+    //  enum Cause
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  This method gets called when a session configuration bean was
+     *  evicted.
+     *
+     *  @param  sessionKey  The session key of the evicted bean.
+     *  @param  bean    The evicted bean.
+     *  @param  cause   The reason for the eviction.
+     */
+    public void beanEvicted( final String sessionKey, final SessionBeanSpec bean, final Cause cause );
+}
+//  interface SessionBeanEvictionListener
+
+/*
+ *  End of File
+ */
@@ -18,46 +18,57 @@
 
 package org.tquadrat.foundation.config.internal;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
-import static java.nio.file.Files.lines;
+import static java.nio.file.Files.newBufferedReader;
 import static java.util.Spliterator.IMMUTABLE;
 import static java.util.Spliterator.NONNULL;
 import static java.util.Spliterators.spliterator;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.tquadrat.foundation.config.CLIBeanSpec.ARG_FILE_ESCAPE;
 import static org.tquadrat.foundation.config.CLIBeanSpec.LEAD_IN;
 import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_ArgumentMissing;
 import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_MissingOperand;
 import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_NoArgumentAllowed;
+import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_OptionAmbiguous;
 import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_OptionInvalid;
 import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_OptionMissing;
+import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_OptionUnknown;
 import static org.tquadrat.foundation.config.CmdLineException.MSGKEY_TooManyArguments;
 import static org.tquadrat.foundation.config.CmdLineException.MSG_ArgumentMissing;
 import static org.tquadrat.foundation.config.CmdLineException.MSG_MissingOperand;
 import static org.tquadrat.foundation.config.CmdLineException.MSG_NoArgumentAllowed;
+import static org.tquadrat.foundation.config.CmdLineException.MSG_OptionAmbiguous;
 import static org.tquadrat.foundation.config.CmdLineException.MSG_OptionInvalid;
 import static org.tquadrat.foundation.config.CmdLineException.MSG_OptionMissing;
+import static org.tquadrat.foundation.config.CmdLineException.MSG_OptionUnknown;
 import static org.tquadrat.foundation.config.CmdLineException.MSG_TooManyArguments;
-import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.config.internal.OptionTrie.AMBIGUOUS;
 import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.util.StringUtils.isNotEmpty;
+import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
 import static org.tquadrat.foundation.util.SystemUtils.systemPropertiesAsStringMap;
 import static org.tquadrat.foundation.util.Template.replaceVariable;
 
-import java.io.File;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -65,14 +76,23 @@ import java.util.stream.StreamSupport;
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.config.CmdLineException;
+import org.tquadrat.foundation.config.CmdLineParser;
 import org.tquadrat.foundation.config.spi.CLIArgumentDefinition;
 import org.tquadrat.foundation.config.spi.CLIDefinition;
 import org.tquadrat.foundation.config.spi.CLIOptionDefinition;
 import org.tquadrat.foundation.config.spi.Parameters;
-import org.tquadrat.foundation.util.StringUtils;
 
 /**
- *  The parser for the command line arguments.
+ *  <p>{@summary The parser for the command line arguments.}</p>
+ *  <p>An instance is immutable after construction: the names and aliases of
+ *  the options are looked up in an
+ *  {@link OptionTrie},
+ *  and all state of a single parse run is held by a
+ *  {@link CmdLineImpl}
+ *  instance that is local to the call to
+ *  {@link #parse(String...)}.
+ *  Therefore the same instance can be used to parse any number of command
+ *  lines, also concurrently from several threads.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: ArgumentParser.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -82,7 +102,7 @@ import org.tquadrat.foundation.util.StringUtils;
  */
 @ClassVersion( sourceVersion = "$Id: ArgumentParser.java 1258 2026-06-04 18:33:06Z tquadrat $" )
 @API( status = INTERNAL, since = "0.0.1" )
-public class ArgumentParser
+public class ArgumentParser implements CmdLineParser
 {
         /*---------------*\
     ====** Inner Classes **====================================================
@@ -96,6 +116,26 @@ public class ArgumentParser
      *  will translate single letter options without blanks between option and
      *  value into two entries, as well as long entries where an equal sign is
      *  used.</p>
+     *  <p>The argument files are expanded in a single pass: each file is read
+     *  line by line, and a reference to another argument file is expanded
+     *  immediately (depth-first), so that no intermediate lists are
+     *  created.</p>
+     *  <p>The tokens are not copied: each token is a view on one of the
+     *  source strings (the command line arguments, or the lines from the
+     *  argument files), stored as the index of the source and the begin and
+     *  end offsets in a single {@code int} array. A token is turned into a
+     *  {@code String} only when it is returned by
+     *  {@link #getParameter(int)}
+     *  or
+     *  {@link #next()};
+     *  if the token covers its source completely, the source itself is
+     *  returned. Option names are looked up directly on the view.</p>
+     *  <p>For each position in the arguments list, the position of the next
+     *  option is determined once, so that
+     *  {@link #isParameter(int)}
+     *  and
+     *  {@link #getParameter(int)}
+     *  do not need to scan the list.</p>
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
      *  @version $Id: ArgumentParser.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -107,19 +147,112 @@ public class ArgumentParser
     @API( status = INTERNAL, since = "0.0.1" )
     private final class CmdLineImpl implements Iterator<String>, Parameters
     {
+            /*-----------*\
+        ====** Constants **====================================================
+            \*-----------*/
+        /**
+         *  The offset for the begin of a token in its source: {@value}.
+         */
+        private static final int TOKEN_BEGIN = 1;
+
+        /**
+         *  The offset for the end of a token in its source: {@value}.
+         */
+        private static final int TOKEN_END = 2;
+
+        /**
+         *  The number of entries in
+         *  {@link #m_Tokens}
+         *  for each token: {@value}.
+         */
+        private static final int TOKEN_SIZE = 3;
+
+        /**
+         *  The offset for the index of the source of a token: {@value}.
+         */
+        private static final int TOKEN_SOURCE = 0;
+
             /*------------*\
         ====** Attributes **===================================================
             \*------------*/
         /**
-         *  The arguments list.
+         *  The canonical paths of the argument files that are currently
+         *  expanded; a reference to one of these files would cause an
+         *  endless recursion.
+         */
+        private final Set<Path> m_ActiveFiles = new HashSet<>();
+
+        /**
+         *  The definition for the current command line entry.
          */
-        private final List<String> m_ArgumentList = new ArrayList<>();
+        @SuppressWarnings( "UseOfConcreteClass" )
+        private CLIOptionDefinition m_CurrentOptionDefinition = null;
 
         /**
          *  The current position in the arguments list.
          */
         private int m_CurrentPos;
 
+        /**
+         *  The references to argument files that could not be read.
+         */
+        private final Collection<String> m_FailedFiles = new HashSet<>();
+
+        /**
+         *  <p>{@summary The index for the options in the arguments list.} The
+         *  entry for a position holds the position of the next token that
+         *  looks like an option, starting with the position itself; if there
+         *  is no further option, the entry holds the size of the arguments
+         *  list.</p>
+         *  <p>The array has one more entry than the arguments list, so that
+         *  it can be used also when the end of the list was reached.</p>
+         */
+        private int [] m_NextOption;
+
+        /**
+         *  {@true} if options has to be parsed. If set to {@false}, only
+         *  arguments are parsed.
+         */
+        private final boolean m_ParsingOptions;
+
+        /**
+         *  The number of sources.
+         */
+        private int m_SourceCount = 0;
+
+        /**
+         *  The sources for the tokens.
+         */
+        private String [] m_Sources;
+
+        /**
+         *  {@true} as long as the tokens from the command line are checked
+         *  for options that have to be split, {@false} after the
+         *  'Stop Options Processing' token was encountered.
+         */
+        private boolean m_SplitOptions;
+
+        /**
+         *  The snapshot of the system properties that is used to replace
+         *  the variables in the argument files; it will be taken when the
+         *  first argument file is read.
+         */
+        private Map<String,String> m_SystemProperties = null;
+
+        /**
+         *  The number of tokens.
+         */
+        private int m_TokenCount = 0;
+
+        /**
+         *  The token table; each token occupies
+         *  {@value #TOKEN_SIZE}
+         *  entries: the index of its source in
+         *  {@link #m_Sources},
+         *  and the begin and end offsets in that source.
+         */
+        private int [] m_Tokens;
+
             /*--------------*\
         ====** Constructors **=================================================
             \*--------------*/
@@ -127,106 +260,131 @@ public class ArgumentParser
          *  Creates a new object for CmdLineImpl.
          *
          *  @param  args    The arguments list.
+         *  @throws CmdLineException    An argument file could not be read
+         *      completely.
          */
-        @SuppressWarnings( {"IfStatementWithTooManyBranches", "OverlyComplexMethod"} )
-        public CmdLineImpl( final String... args )
+        public CmdLineImpl( final String... args ) throws CmdLineException
         {
             assert nonNull( args ) : "args is null";
 
-            final Collection<String> failedFiles = new HashSet<>();
-            var expandedToFile = true; // Flag that indicates whether an argument file was encountered
-            var inBuffer = List.of( args );
-            List<String> outBuffer;
-
-            while( expandedToFile )
-            {
-                expandedToFile = false;
-                outBuffer = new ArrayList<>( inBuffer.size() );
-                for( final var arg : inBuffer )
-                {
-                    if( arg.startsWith( ARG_FILE_ESCAPE ) && !failedFiles.contains( arg ) )
-                    {
-                        outBuffer.addAll( loadArgumentFile( arg, failedFiles ) );
-                        expandedToFile = true;
-                    }
-                    else
-                    {
-                        outBuffer.add( arg );
-                    }
-                }
-                inBuffer = outBuffer;
-            }
-
-            var parsingOptions = parsingOptions();
-            for( final var arg : inBuffer )
-            {
-                if( parsingOptions )
-                {
-                    //noinspection ConstantExpression
-                    if( arg.equals( LEAD_IN + LEAD_IN ) )
-                    {
-                        //---* The 'Stop Options Processing' token *-----------
-                        m_ArgumentList.add( arg );
-                        parsingOptions = false;
-                    }
-                    else //noinspection ConstantExpression
-                        if( arg.startsWith( LEAD_IN + LEAD_IN ) )
-                    /*
-                     * Sequence is crucial! We need to check for the '--'
-                     * prefix before we check for the '-' prefix, otherwise
-                     * the result is ... interesting
-                     */
-                    {
-                        //---* Long option *-----------------------------------
-                        final var pos = arg.indexOf( '=' );
-                        if( pos > 3 )
-                        {
-                            m_ArgumentList.add( arg.substring( 0, pos ) );
-                            m_ArgumentList.add( arg.substring( pos + 1 ) );
-                        }
-                        else
-                        {
-                            m_ArgumentList.add( arg );
-                        }
-                    }
-                    else if( arg.startsWith( LEAD_IN ) )
-                    {
-                        //---* Single letter option *--------------------------
-                        if( arg.length() > 2 )
-                        {
-                            m_ArgumentList.add( arg.substring( 0, 2 ) );
-                            m_ArgumentList.add( arg.substring( 2 ) );
-                        }
-                        else
-                        {
-                            m_ArgumentList.add( arg );
-                        }
-                    }
-                    else
-                    {
-                        //---* No option at all, or an option argument *-------
-                        m_ArgumentList.add( arg );
-                    }
-                }
-                else
-                {
-                    m_ArgumentList.add( arg );
-                }
-            }
+            m_Sources = new String [args.length + 1];
+            m_Tokens = new int [(args.length + 1) * TOKEN_SIZE];
+            m_ParsingOptions = parsingOptions();
+            m_SplitOptions = m_ParsingOptions;
+            for( final var arg : args ) expand( arg );
 
             //---* We start at 0 *---------------------------------------------
             m_CurrentPos = 0;
+            indexOptions();
         }   //  CmdLineImpl()
 
             /*---------*\
         ====** Methods **======================================================
             \*---------*/
+        /**
+         *  Adds the given String to the sources.
+         *
+         *  @param  source  The source.
+         *  @return The index of the source.
+         */
+        private final int addSource( final String source )
+        {
+            if( m_SourceCount == m_Sources.length ) m_Sources = Arrays.copyOf( m_Sources, m_SourceCount * 2 );
+            final var retValue = m_SourceCount++;
+            m_Sources [retValue] = source;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  addSource()
+
+        /**
+         *  Adds a token to the end of the token table.
+         *
+         *  @param  source  The index of the source.
+         *  @param  begin   The begin of the token in the source.
+         *  @param  end The end of the token in the source.
+         */
+        private final void addToken( final int source, final int begin, final int end )
+        {
+            if( (m_TokenCount + 1) * TOKEN_SIZE > m_Tokens.length ) m_Tokens = Arrays.copyOf( m_Tokens, m_Tokens.length * 2 );
+            setToken( m_TokenCount++, source, begin, end );
+        }   //  addToken()
+
+        /**
+         *  Adds the given command line argument to the arguments list; if it
+         *  refers to an argument file, the contents of that file will be
+         *  added instead.
+         *
+         *  @param  arg The command line argument.
+         *  @throws CmdLineException    An argument file could not be read
+         *      completely.
+         */
+        private final void expand( final String arg ) throws CmdLineException
+        {
+            if( arg.startsWith( ARG_FILE_ESCAPE ) && !m_FailedFiles.contains( arg ) )
+            {
+                loadArgumentFile( arg );
+            }
+            else
+            {
+                split( arg );
+            }
+        }   //  expand()
+
+        /**
+         *  Looks up the current token in the given trie, without creating a
+         *  {@code String} for it.
+         *
+         *  @param  trie    The trie with the option names.
+         *  @param  allowAbbreviations  {@true} if a long option may be given
+         *      by a unique prefix of its name.
+         *  @return The value for the option name from the trie, or one of
+         *      {@link OptionTrie#NOT_FOUND}
+         *      or
+         *      {@link OptionTrie#AMBIGUOUS}.
+         */
+        public final int findCurrentOption( final OptionTrie trie, final boolean allowAbbreviations )
+        {
+            final var offset = m_CurrentPos * TOKEN_SIZE;
+            final var source = m_Sources [m_Tokens [offset + TOKEN_SOURCE]];
+            final var begin = m_Tokens [offset + TOKEN_BEGIN];
+            final var end = m_Tokens [offset + TOKEN_END];
+
+            //noinspection ConstantExpression
+            final var retValue = allowAbbreviations && source.startsWith( LEAD_IN + LEAD_IN, begin ) && (end - begin > 2)
+                ? trie.findPrefix( source, begin, end )
+                : trie.find( source, begin, end );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  findCurrentOption()
+
+        /**
+         *  Returns the current CLI option definition.
+         *
+         *  @return The current CLI option definition.
+         */
+        public final CLIOptionDefinition getCurrentOptionDefinition() { return m_CurrentOptionDefinition; }
+
         /**
          *  Returns the current token from the arguments list.
          *
          *  @return The current token.
          */
-        public final String getCurrentToken() { return m_ArgumentList.get( m_CurrentPos ); }
+        public final String getCurrentToken() { return getToken( m_CurrentPos ); }
+
+        /**
+         *  Returns the name of the option that is being processed currently.
+         *
+         *  @return The name of the current option.
+         */
+        public final String getOptionName()
+        {
+            final var retValue = nonNull( m_CurrentOptionDefinition ) ? m_CurrentOptionDefinition.name() : null;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  getOptionName()
 
         /**
          *  {@inheritDoc}
@@ -236,25 +394,35 @@ public class ArgumentParser
         {
             assert index >= 0 : "index is less than 0";
 
-            String retValue = null;
-            if( m_CurrentPos + index < m_ArgumentList.size() )
-            {
-                retValue = m_ArgumentList.get( m_CurrentPos + index );
-                if( retValue.startsWith( LEAD_IN ) && parsingOptions() )
-                {
-                    //---* We found the next option *--------------------------
-                    throw new CmdLineException( getCurrentOptionDefinition(), MSG_MissingOperand, MSGKEY_MissingOperand, getOptionName() );
-                }
-            }
-            else
+            if( !isParameter( index ) )
             {
+                //---* Either the end of the list, or the next option *--------
                 throw new CmdLineException( getCurrentOptionDefinition(), MSG_MissingOperand, MSGKEY_MissingOperand, getOptionName() );
             }
+            final var retValue = getToken( m_CurrentPos + index );
 
             //---* Done *------------------------------------------------------
             return retValue;
         }   //  getParameter()
 
+        /**
+         *  Returns the token at the given position as a {@code String}.
+         *
+         *  @param  pos The position of the token.
+         *  @return The token.
+         */
+        private final String getToken( final int pos )
+        {
+            final var offset = pos * TOKEN_SIZE;
+            final var source = m_Sources [m_Tokens [offset + TOKEN_SOURCE]];
+            final var begin = m_Tokens [offset + TOKEN_BEGIN];
+            final var end = m_Tokens [offset + TOKEN_END];
+            final var retValue = (begin == 0) && (end == source.length()) ? source : source.substring( begin, end );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  getToken()
+
         /**
          *  Checks if there are more entries.
          *
@@ -262,7 +430,56 @@ public class ArgumentParser
          *      {@false} otherwise.
          */
         @Override
-        public final boolean hasNext() { return m_CurrentPos < m_ArgumentList.size(); }
+        public final boolean hasNext() { return m_CurrentPos < m_TokenCount; }
+
+        /**
+         *  Builds the
+         *  {@linkplain #m_NextOption index for the options}
+         *  from the arguments list.
+         */
+        private final void indexOptions()
+        {
+            m_NextOption = new int [m_TokenCount + 1];
+            m_NextOption [m_TokenCount] = m_TokenCount;
+            for( var pos = m_TokenCount - 1; pos >= 0; --pos ) updateIndex( pos );
+        }   //  indexOptions()
+
+        /**
+         *  Checks whether the token at the given position starts with a
+         *  hyphen
+         *  ({@value org.tquadrat.foundation.config.CLIBeanSpec#LEAD_IN}).
+         *
+         *  @param  pos The position of the token.
+         *  @return {@true} if the token looks like an option, {@false}
+         *      otherwise.
+         */
+        private final boolean isLeadIn( final int pos )
+        {
+            final var offset = pos * TOKEN_SIZE;
+            final var begin = m_Tokens [offset + TOKEN_BEGIN];
+            final var retValue = (m_Tokens [offset + TOKEN_END] > begin) && m_Sources [m_Tokens [offset + TOKEN_SOURCE]].startsWith( LEAD_IN, begin );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isLeadIn()
+
+        /**
+         *  Checks if the current token is an option (as opposed to an
+         *  argument). Option tokens will have a hyphen
+         *  ({@value org.tquadrat.foundation.config.CLIBeanSpec#LEAD_IN})
+         *  as their first character.
+         *
+         *  @return {@true} if the current token is an option,
+         *      {@false} if it is an argument, or if no options are expected
+         *      at all.
+         */
+        public final boolean isOption()
+        {
+            final var retValue = m_ParsingOptions && isLeadIn( m_CurrentPos );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isOption()
 
         /**
          *  {@inheritDoc}
@@ -272,27 +489,27 @@ public class ArgumentParser
         {
             assert index >= 0 : "index is less than 0";
 
-            var retValue = m_CurrentPos + index < m_ArgumentList.size();
-            if( retValue && parsingOptions() )
+            final var pos = m_CurrentPos + index;
+            var retValue = pos < m_TokenCount;
+            if( retValue && m_ParsingOptions )
             {
-                var pos = m_CurrentPos + index;
-                while( retValue && (pos < m_ArgumentList.size()) )
-                {
-                    retValue = !(m_ArgumentList.get( pos++ ).startsWith( LEAD_IN ) );
-                }
+                //---* There must not be an option up to the given index *-----
+                retValue = m_NextOption [m_CurrentPos] > pos;
             }
 
             //---* Done *------------------------------------------------------
             return retValue;
-        }   //  getParameter()
+        }   //  isParameter()
 
         /**
          *  <p>{@summary Loads an argument file as specified by the given
-         *  argument and returns the contents of that file as additional
-         *  command line arguments.}</p>
+         *  argument and adds the contents of that file as additional command
+         *  line arguments.}</p>
          *  <p>If no file could be retrieved for the name given with the
          *  argument, that argument will be added to the list of failed files
-         *  and the unchanged argument will be returned.</p>
+         *  and the unchanged argument will be added to the arguments list;
+         *  the same happens with a reference to an argument file that is
+         *  currently expanded, instead of recursing endlessly.</p>
          *  <p>Variables of the form <code>${<i>&lt;name&gt;</i>}</code> will
          *  be replaced by the value for <i>name</i> from the system properties
          *  ({@link System#getProperty(String)}).</p>
@@ -301,43 +518,53 @@ public class ArgumentParser
          *  &quot;\#&quot;.</p>
          *
          *  @param  arg The command line argument.
-         *  @param  failedFiles The list of failed files.
-         *  @return The additional command line arguments as read from the
-         *      file, if it could be opened.
+         *  @throws CmdLineException    The argument file could be opened,
+         *      but not read completely.
          */
-        @SuppressWarnings( "resource" )
-        private final Collection<String> loadArgumentFile( final String arg, @SuppressWarnings( "BoundedWildcard" ) final Collection<String> failedFiles )
+        private final void loadArgumentFile( final String arg ) throws CmdLineException
         {
-            final var systemProperties = systemPropertiesAsStringMap();
+            Path argumentFile = null;
+            BufferedReader reader = null;
+            try
+            {
+                argumentFile = Path.of( arg.substring( 1 ) ).toRealPath();
+                if( !m_ActiveFiles.contains( argumentFile ) ) reader = newBufferedReader( argumentFile );
+            }
+            catch( final IOException | InvalidPathException _ )
+            {
+                m_FailedFiles.add( arg );
+            }
 
-            Collection<String> retValue;
-            if( failedFiles.contains( arg ) )
+            if( isNull( reader ) )
             {
-                retValue = List.of( arg );
+                //---* Unreadable, or a recursive reference *------------------
+                split( arg );
             }
             else
             {
-                try
+                if( isNull( m_SystemProperties ) ) m_SystemProperties = systemPropertiesAsStringMap();
+                m_ActiveFiles.add( argumentFile );
+                try( final var lines = reader )
                 {
-                    final var argumentFile = new File( arg.substring( 1 ) )
-                        .getCanonicalFile()
-                        .getAbsoluteFile();
-                    retValue = lines( argumentFile.toPath() )
-                        .filter( line -> !line.startsWith( "#" ) ) // Drop the comments
-                        .map( line -> line.startsWith( "\\" ) ? line.substring( 1 ) : line )
-                        .filter( StringUtils::isNotEmptyOrBlank ) // Drop empty lines
-                        .map( line -> replaceVariable( line, systemProperties ) )
-                        .collect( toList() );
+                    String line;
+                    while( nonNull( line = lines.readLine() ) )
+                    {
+                        if( !line.startsWith( "#" ) ) // Drop the comments
+                        {
+                            final var value = line.startsWith( "\\" ) ? line.substring( 1 ) : line;
+                            if( isNotEmptyOrBlank( value ) ) expand( replaceVariable( value, m_SystemProperties ) );
+                        }
+                    }
+                }
+                catch( final IOException e )
+                {
+                    throw new CmdLineException( e );
                 }
-                catch( final IOException ignored )
+                finally
                 {
-                    retValue = List.of( arg );
-                    failedFiles.add( arg );
+                    m_ActiveFiles.remove( argumentFile );
                 }
             }
-
-            //---* Done *------------------------------------------------------
-            return retValue;
         }   //  loadArgumentFile()
 
         /**
@@ -368,10 +595,15 @@ public class ArgumentParser
         }   //  proceed()
 
         /**
-         *  In case the entry is a combination from option and the related
-         *  parameter (like {@code --arg value} or, for single character
-         *  options, {@code -p value}), this method is used to put it back to
-         *  the command line.
+         *  <p>{@summary In case the entry is a combination from option and the
+         *  related parameter (like {@code --arg value} or, for single
+         *  character options, {@code -p value}), this method is used to put
+         *  it back to the command line.}</p>
+         *  <p>As the arguments list is processed only forward, the two parts
+         *  are stored to the position of the current token and to that of the
+         *  already consumed token before it, so that no other tokens have to
+         *  be moved; only for the very first token, the list has to be
+         *  shifted.</p>
          *
          *  @param  part1   The first part, usually the option.
          *  @param  part2   The second part, usually the value.
@@ -382,12 +614,141 @@ public class ArgumentParser
             assert isNotEmpty( part1 ) : "part1 is empty";
             assert isNotEmpty( part2 ) : "part2 is empty";
 
-            m_ArgumentList.set( m_CurrentPos, part2 );
-            m_ArgumentList.add( m_CurrentPos, part1 );
+            if( m_CurrentPos > 0 )
+            {
+                --m_CurrentPos;
+                setToken( m_CurrentPos, addSource( part1 ), 0, part1.length() );
+                setToken( m_CurrentPos + 1, addSource( part2 ), 0, part2.length() );
+
+                /*
+                 * The index entries for the positions before the current one
+                 * are outdated now, but they will not be used again.
+                 */
+                updateIndex( m_CurrentPos + 1 );
+                updateIndex( m_CurrentPos );
+            }
+            else
+            {
+                addToken( 0, 0, 0 );
+                System.arraycopy( m_Tokens, 0, m_Tokens, TOKEN_SIZE, (m_TokenCount - 1) * TOKEN_SIZE );
+                setToken( 0, addSource( part1 ), 0, part1.length() );
+                setToken( 1, addSource( part2 ), 0, part2.length() );
+                indexOptions();
+            }
         }   //  putback()
+
+        /**
+         *  Sets the definition for the option that is processed currently.
+         *
+         *  @param  optionDefinition    The option definition.
+         */
+        public final void setCurrentOptionDefinition( final CLIOptionDefinition optionDefinition ) { m_CurrentOptionDefinition = optionDefinition; }
+
+        /**
+         *  Sets the token at the given position in the token table.
+         *
+         *  @param  pos The position of the token.
+         *  @param  source  The index of the source.
+         *  @param  begin   The begin of the token in the source.
+         *  @param  end The end of the token in the source.
+         */
+        private final void setToken( final int pos, final int source, final int begin, final int end )
+        {
+            final var offset = pos * TOKEN_SIZE;
+            m_Tokens [offset + TOKEN_SOURCE] = source;
+            m_Tokens [offset + TOKEN_BEGIN] = begin;
+            m_Tokens [offset + TOKEN_END] = end;
+        }   //  setToken()
+
+        /**
+         *  Adds the given command line argument to the arguments list; an
+         *  option with a value will be split into two entries.
+         *
+         *  @param  arg The command line argument.
+         */
+        @SuppressWarnings( "IfStatementWithTooManyBranches" )
+        private final void split( final String arg )
+        {
+            final var source = addSource( arg );
+            final var length = arg.length();
+            if( m_SplitOptions )
+            {
+                //noinspection ConstantExpression
+                if( arg.equals( LEAD_IN + LEAD_IN ) )
+                {
+                    //---* The 'Stop Options Processing' token *---------------
+                    addToken( source, 0, length );
+                    m_SplitOptions = false;
+                }
+                else //noinspection ConstantExpression
+                    if( arg.startsWith( LEAD_IN + LEAD_IN ) )
+                /*
+                 * Sequence is crucial! We need to check for the '--' prefix
+                 * before we check for the '-' prefix, otherwise the result is
+                 * ... interesting
+                 */
+                {
+                    //---* Long option *---------------------------------------
+                    final var pos = arg.indexOf( '=' );
+                    if( pos > 3 )
+                    {
+                        addToken( source, 0, pos );
+                        addToken( source, pos + 1, length );
+                    }
+                    else
+                    {
+                        addToken( source, 0, length );
+                    }
+                }
+                else if( arg.startsWith( LEAD_IN ) )
+                {
+                    //---* Single letter option *------------------------------
+                    if( length > 2 )
+                    {
+                        addToken( source, 0, 2 );
+                        addToken( source, 2, length );
+                    }
+                    else
+                    {
+                        addToken( source, 0, length );
+                    }
+                }
+                else
+                {
+                    //---* No option at all, or an option argument *-----------
+                    addToken( source, 0, length );
+                }
+            }
+            else
+            {
+                addToken( source, 0, length );
+            }
+        }   //  split()
+
+        /**
+         *  Updates the entry in the
+         *  {@linkplain #m_NextOption index for the options}
+         *  for the given position; the entry for the next position must be
+         *  up-to-date already.
+         *
+         *  @param  pos The position.
+         */
+        private final void updateIndex( final int pos )
+        {
+            m_NextOption [pos] = isLeadIn( pos ) ? pos : m_NextOption [pos + 1];
+        }   //  updateIndex()
     }
     //  class CmdLineImpl
 
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum distance between an invalid option and the name of a
+     *  valid one that will be suggested in the error message: {@value}.
+     */
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -396,192 +757,230 @@ public class ArgumentParser
      *  {@link CLIDefinition}
      *  instances for arguments.
      */
-    private final List<CLIArgumentDefinition> m_ArgumentDefinitions = new ArrayList<>();
+    private final List<CLIArgumentDefinition> m_ArgumentDefinitions;
+
+    /**
+     *  {@true} if options has to be parsed, {@false} if only arguments are
+     *  parsed because there are no option definitions at all.
+     */
+    private final boolean m_HasOptions;
 
     /**
-     *  The definition for the current command line entry.
+     *  {@true} if a long option may be abbreviated by a unique prefix of its
+     *  name, {@false} if the full name is required.
      */
-    @SuppressWarnings( "UseOfConcreteClass" )
-    private CLIOptionDefinition m_CurrentOptionDefinition = null;
+    private final boolean m_AllowAbbreviations;
 
     /**
      *  The
      *  {@link CLIDefinition}
-     *  instances for options.
+     *  instances for options, one entry for each option; the index of a
+     *  definition is the value for its name and aliases in
+     *  {@link #m_OptionTrie}.
      */
-    private final Map<String,CLIOptionDefinition> m_OptionDefinitions = new TreeMap<>();
+    private final CLIOptionDefinition [] m_OptionTable;
 
     /**
-     *  {@true} (the default) if options has to be parsed. If set to
-     *  {@false}, only arguments are parsed.
-     *
-     *  @see #stopOptionParsing()
+     *  The trie over the names and aliases of the options.
      */
-    private boolean m_ParsingOptions = false;
+    private final OptionTrie m_OptionTrie;
 
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
     /**
-     *  Creates a new {@code ArgumentParser} instance.
+     *  Creates a new {@code ArgumentParser} instance that requires the full
+     *  names for the options.
      *
      *  @param  cliDefinitions  The definition for the command line options and
      *      arguments from the configuration bean specification.
      */
     public ArgumentParser( final Collection<? extends CLIDefinition> cliDefinitions )
     {
+        this( cliDefinitions, false );
+    }   //  ArgumentParser()
+
+    /**
+     *  Creates a new {@code ArgumentParser} instance.
+     *
+     *  @param  cliDefinitions  The definition for the command line options and
+     *      arguments from the configuration bean specification.
+     *  @param  allowAbbreviations  {@true} if a long option (one that starts
+     *      with two hyphens) may be abbreviated by a unique prefix of its
+     *      name or of one of its aliases, {@false} if the full name is
+     *      required.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = INTERNAL, since = "0.25.13" )
+    public ArgumentParser( final Collection<? extends CLIDefinition> cliDefinitions, final boolean allowAbbreviations )
+    {
+        m_AllowAbbreviations = allowAbbreviations;
+        final List<CLIArgumentDefinition> argumentDefinitions = new ArrayList<>();
+        final Map<String,CLIOptionDefinition> optionDefinitions = new TreeMap<>();
+
         //---* Add the definitions to the registry *---------------------------
         for( final var cliDefinition : requireNonNullArgument( cliDefinitions, "cliDefinitions" ) )
         {
             if( cliDefinition.isArgument() )
             {
-                addArgument( cliDefinition );
+                addArgument( argumentDefinitions, cliDefinition );
             }
             else
             {
-                addOption( cliDefinition );
+                addOption( optionDefinitions, cliDefinition );
             }
         }
 
         //---* Check the consistency of the arguments list *-------------------
-        if( m_ArgumentDefinitions.stream().anyMatch( Objects::isNull ) )
+        if( argumentDefinitions.stream().anyMatch( Objects::isNull ) )
         {
-            final var indexes = Stream.iterate( 0, i -> i < m_ArgumentDefinitions.size(), i -> i + 1 )
-                .filter( i -> isNull( m_ArgumentDefinitions.get( i ) ) )
+            final var indexes = Stream.iterate( 0, i -> i < argumentDefinitions.size(), i -> i + 1 )
+                .filter( i -> isNull( argumentDefinitions.get( i ) ) )
                 .map( i -> Integer.toString( i ) )
                 .collect( joining( ", " ) );
             throw new IllegalArgumentException( "Missing index: %s - Gap in Sequence".formatted( indexes ) );
         }
+
+        //---* Freeze the registry *-------------------------------------------
+        m_ArgumentDefinitions = List.copyOf( argumentDefinitions );
+        m_HasOptions = !optionDefinitions.isEmpty();
+        final var names = optionDefinitions.keySet().toArray( String []::new );
+        final var values = new int [names.length];
+        final List<CLIOptionDefinition> optionTable = new ArrayList<>();
+        final Map<CLIOptionDefinition,Integer> indexes = new IdentityHashMap<>();
+        for( var i = 0; i < names.length; ++i )
+        {
+            values [i] = indexes.computeIfAbsent( optionDefinitions.get( names [i] ), d ->
+            {
+                optionTable.add( d );
+                return optionTable.size() - 1;
+            } );
+        }
+        m_OptionTable = optionTable.toArray( CLIOptionDefinition []::new );
+        m_OptionTrie = new OptionTrie( names, values );
     }   //  ArgumentParser()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
     /**
-     *  Adds an argument definition to the registry for arguments.
+     *  Adds an argument definition to the given registry for arguments.
      *
+     *  @param  registry    The registry for the arguments.
      *  @param  definition  The argument definition to add.
      */
-    private final void addArgument( final CLIDefinition definition )
+    private static final void addArgument( final List<CLIArgumentDefinition> registry, final CLIDefinition definition )
     {
         final var argumentDefinition = (CLIArgumentDefinition) requireNonNullArgument( definition, "definition" );
 
         //--* Make sure the argument will fit in the list *--------------------
         final var index = argumentDefinition.index();
-        while( index >= m_ArgumentDefinitions.size() )
+        while( index >= registry.size() )
         {
-            m_ArgumentDefinitions.add( null );
+            registry.add( null );
         }
-        if( nonNull( m_ArgumentDefinitions.get( index ) ) )
+        if( nonNull( registry.get( index ) ) )
         {
             throw new IllegalArgumentException( "Argument index '%d' is used more than once".formatted( index ) );
         }
-        m_ArgumentDefinitions.set( index, argumentDefinition );
+        registry.set( index, argumentDefinition );
     }   //  addArgument()
 
     /**
-     *  Adds an option definition to the registry for options.
+     *  Adds an option definition to the given registry for options.
      *
+     *  @param  registry    The registry for the options.
      *  @param  definition  The option definition to add.
      */
-    private final void addOption( final CLIDefinition definition )
+    private static final void addOption( final Map<String,CLIOptionDefinition> registry, final CLIDefinition definition )
     {
-        //---* We have at least one option ... *-------------------------------
-        m_ParsingOptions = true;
-
         final var optionDefinition = (CLIOptionDefinition) requireNonNullArgument( definition, "definition" );
-        checkOptionNotYetUsed( optionDefinition.name() );
-        m_OptionDefinitions.put( optionDefinition.name(), optionDefinition );
+        checkOptionNotYetUsed( registry, optionDefinition.name() );
+        registry.put( optionDefinition.name(), optionDefinition );
         for( final var alias : optionDefinition.aliases() )
         {
-            checkOptionNotYetUsed( alias );
-            m_OptionDefinitions.put( alias, optionDefinition );
+            checkOptionNotYetUsed( registry, alias );
+            registry.put( alias, optionDefinition );
         }
-}   //  addOption()
+    }   //  addOption()
 
     /**
-     *  Finds an option definition by the given option name.
+     *  Checks the command line definition whether the given name is not yet
+     *  used, either as a name or an alias.
      *
-     *  @param  name    The option name.
-     *  @return The option definition.
-     *  @throws CmdLineException    There is no option definition for the
-     *      given option name.
+     *  @param  registry    The registry for the options.
+     *  @param  name    The name to check.
+     *  @throws IllegalArgumentException    The given name is already in use.
      */
-    private final CLIOptionDefinition findOptionDefinition( final String name )
+    private static final void checkOptionNotYetUsed( final Map<String,CLIOptionDefinition> registry, final String name ) throws IllegalArgumentException
     {
         assert nonNull( name ) : "name is null";
 
-        final var retValue = m_OptionDefinitions.get( name );
-        if( isNull( retValue ) )
+        if( registry.containsKey( name ) )
         {
-            throw new CmdLineException( format( MSG_OptionInvalid, name ), MSGKEY_OptionInvalid, name );
+            throw new IllegalArgumentException( "Option name '%s' is used more than once".formatted( name ) );
         }
-
-        //---* Done *----------------------------------------------------------
-        return retValue;
-    }   //  findOptionDefinition()
-
-    /**
-     *  Returns the current CLI option definition.
-     *
-     *  @return The current CLI option definition.
-     */
-    final CLIOptionDefinition getCurrentOptionDefinition() { return m_CurrentOptionDefinition; }
-
-    /**
-     *  Returns the name of the option that is being processed currently.
-     *
-     *  @return The name of the current option.
-     */
-    final String getOptionName()
-    {
-        final var retValue = nonNull( m_CurrentOptionDefinition ) ? m_CurrentOptionDefinition.name() : null;
-
-        //---* Done *----------------------------------------------------------
-        return retValue;
-    }   //  getOptionName()
+    }   //  checkOptionNotYetUsed()
 
     /**
-     *  Checks if the given token is an option (as opposed to an argument).
-     *  Option tokens will have a hyphen
-     *  ({@value org.tquadrat.foundation.config.CLIBeanSpec#LEAD_IN})
-     *  as their first character.
-     *
-     *  @param  token   The token to test.
-     *  @return {@true} if the given token is an option,
-     *      {@false} if it is an argument, or if no (more) options are
-     *      expected at all.
+     *  <p>{@summary Finds an option definition for the current token of the
+     *  given command line.}</p>
+     *  <p>If abbreviations are allowed, a long option can be given by a
+     *  prefix of its name, as long as that prefix is unique.</p>
+     *  <p>When there is no option for the given name, the message of the
+     *  exception lists the options with a similar name, if any.</p>
      *
-     *  @see #stopOptionParsing()
-     *  @see #m_ParsingOptions
+     *  @param  cmdLine The command line.
+     *  @return The option definition.
+     *  @throws CmdLineException    There is no option definition for the
+     *      given option name, or the abbreviation is ambiguous.
      */
-    private final boolean isOption( final String token )
+    private final CLIOptionDefinition findOptionDefinition( final CmdLineImpl cmdLine )
     {
-        assert nonNull( token ) : "token is null";
-        assert !EMPTY_STRING.equals( token ) : "token is empty";
+        assert nonNull( cmdLine ) : "cmdLine is null";
 
-        final var retValue = m_ParsingOptions && token.startsWith( LEAD_IN );
+        final var index = cmdLine.findCurrentOption( m_OptionTrie, m_AllowAbbreviations );
+        if( index < 0 )
+        {
+            //---* The option name is needed only for the error message *-----
+            throw invalidOption( cmdLine.getCurrentToken(), index );
+        }
+        final var retValue = m_OptionTable [index];
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  isOption()
+    }   //  findOptionDefinition()
 
     /**
-     *  Checks the command line definition whether the given name is not yet
-     *  used, either as a name or an alias.
+     *  Creates the exception for an option name that could not be resolved.
      *
-     *  @param  name    The name to check.
-     *  @throws IllegalArgumentException    The given name is already in use.
+     *  @param  name    The option name.
+     *  @param  index   The result of the lookup; either
+     *      {@link OptionTrie#AMBIGUOUS}
+     *      or
+     *      {@link OptionTrie#NOT_FOUND}.
+     *  @return The exception.
      */
-    private final void checkOptionNotYetUsed( final String name ) throws IllegalArgumentException
+    private final CmdLineException invalidOption( final String name, final int index )
     {
-        assert nonNull( name ) : "name is null";
-
-        if( m_OptionDefinitions.containsKey( name ) )
+        final CmdLineException retValue;
+        if( index == AMBIGUOUS )
         {
-            throw new IllegalArgumentException( "Option name '%s' is used more than once".formatted( name ) );
+            retValue = new CmdLineException( MSG_OptionAmbiguous, MSGKEY_OptionAmbiguous, name, quote( m_OptionTrie.complete( name ) ) );
         }
-    }   //  checkOptionNotYetUsed()
+        else
+        {
+            final var maxDistance = min( MAX_SUGGESTION_DISTANCE, max( 1, name.length() / 3 ) );
+            final var suggestions = m_OptionTrie.suggest( name, maxDistance );
+            retValue = suggestions.isEmpty()
+                ? new CmdLineException( MSG_OptionInvalid, MSGKEY_OptionInvalid, name )
+                : new CmdLineException( MSG_OptionUnknown, MSGKEY_OptionUnknown, name, quote( suggestions ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  invalidOption()
 
     /**
      *  Parses the given command line arguments and sets the retrieved values
@@ -593,6 +992,7 @@ public class ArgumentParser
      *      command line.
      */
     @SuppressWarnings( "OverlyComplexMethod" )
+    @Override
     public final void parse( final String... args ) throws CmdLineException
     {
         final var cmdLine = new CmdLineImpl( requireNonNullArgument( args, "args" ) );
@@ -601,17 +1001,17 @@ public class ArgumentParser
         var argIndex = 0;
         ParseLoop: while( cmdLine.hasNext() )
         {
-            final var arg = cmdLine.getCurrentToken();
-            if( isOption( arg ) )
+            if( cmdLine.isOption() )
             {
-                m_CurrentOptionDefinition = findOptionDefinition( arg );
-                present.add( m_CurrentOptionDefinition );
+                final var optionDefinition = findOptionDefinition( cmdLine );
+                cmdLine.setCurrentOptionDefinition( optionDefinition );
+                present.add( optionDefinition );
 
                 //---* We know the option; skip its name *---------------------
                 cmdLine.proceed( 1 );
 
                 //---* Set the value *-----------------------------------------
-                cmdLine.proceed( m_CurrentOptionDefinition.processParameters( cmdLine ) );
+                cmdLine.proceed( optionDefinition.processParameters( cmdLine ) );
             }
             else
             {
@@ -619,7 +1019,7 @@ public class ArgumentParser
                 {
                     final var message = m_ArgumentDefinitions.isEmpty() ? MSG_NoArgumentAllowed : MSG_TooManyArguments;
                     final var messageKey = m_ArgumentDefinitions.isEmpty() ? MSGKEY_NoArgumentAllowed : MSGKEY_TooManyArguments;
-                    throw new CmdLineException( message, messageKey, arg );
+                    throw new CmdLineException( message, messageKey, cmdLine.getCurrentToken() );
                 }
 
                 //---* We know the argument ... *------------------------------
@@ -642,11 +1042,7 @@ public class ArgumentParser
         }   //  ParseLoop:
 
         //---* Make sure that all mandatory options are present *--------------
-        for( final var optionDefinition : m_OptionDefinitions.values() )
-        /*
-         * We can live with the fact that in case of an alias an option
-         * definition is inspected twice or even more often.
-         */
+        for( final var optionDefinition : m_OptionTable )
         {
             if( optionDefinition.required() && !present.contains( optionDefinition ) )
             {
@@ -666,13 +1062,10 @@ public class ArgumentParser
 
     /**
      *  Returns {@true} if this {@code ArgumentParser} will parse
-     *  options. This can be set to {@false} either when no
+     *  options. This is {@false} when no
      *  {@link org.tquadrat.foundation.config.Option &#64;Option}
-     *  annotation was found on the configuration bean specification interface,
-     *  when the stop token (&quot;--&quot;) was encountered on the command
-     *  line, or when
-     *  {@link #stopOptionParsing()}
-     *  was called manually.
+     *  annotation was found on the configuration bean specification
+     *  interface.
      *
      *  @return {@true} when options are parsed, {@false}
      *      if not.
@@ -680,7 +1073,23 @@ public class ArgumentParser
      *  @see org.tquadrat.foundation.config.CLIBeanSpec#LEAD_IN
      */
     @SuppressWarnings( "BooleanMethodNameMustStartWithQuestion" )
-    public final boolean parsingOptions() { return m_ParsingOptions; }
+    public final boolean parsingOptions() { return m_HasOptions; }
+
+    /**
+     *  Quotes the given option names and joins them into a single String.
+     *
+     *  @param  names   The option names.
+     *  @return The list of names.
+     */
+    private static final String quote( final Collection<String> names )
+    {
+        final var retValue = names.stream()
+            .map( n -> format( "'%s'", n ) )
+            .collect( joining( ", " ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  quote()
 
     /**
      *  <p>{@summary Resolves the given command line.}</p>
@@ -701,13 +1110,6 @@ public class ArgumentParser
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  resolveCommandLine()
-
-    /**
-     *  Stops the parsing for options. After the call, the argument list will
-     *  be parsed only for
-     *  {@linkplain org.tquadrat.foundation.config.Argument arguments}.
-     */
-    public final void stopOptionParsing() { m_ParsingOptions = false; }
 }
 //  class ArgumentParserImpl
 
@@ -0,0 +1,491 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.internal;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A compact character trie over the names and aliases of the
+ *  command line options.}</p>
+ *  <p>Each name is mapped to a value, the index of the option definition;
+ *  all names and aliases of the same option have the same value. The nodes
+ *  of the trie are stored in parallel arrays, and a lookup walks the
+ *  characters of the given token directly, so it does not allocate any
+ *  objects, and it takes time proportional to the length of the token.</p>
+ *  <p>Besides the exact lookup, the trie supports the resolution of a unique
+ *  prefix of a name, the listing of all names with a given prefix, and the
+ *  search for the names that are similar to a given token (for the &quot;did
+ *  you mean&quot; hint in error messages).</p>
+ *  <p>An instance is immutable after construction.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.25.13" )
+public final class OptionTrie
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The value that is returned by
+     *  {@link #findPrefix(CharSequence)}
+     *  for a prefix that matches names with different values: {@value}.
+     */
+    public static final int AMBIGUOUS = -2;
+
+    /**
+     *  The value that is returned for a token that does not match any name:
+     *  {@value}.
+     */
+    public static final int NOT_FOUND = -1;
+
+    /**
+     *  The index of the root node: {@value}.
+     */
+    private static final int ROOT = 0;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The index of the first child for each node, or
+     *  {@link #NOT_FOUND}
+     *  if the node is a leaf.
+     */
+    private final int [] m_FirstChild;
+
+    /**
+     *  The character for each node; the value for the root node is
+     *  meaningless.
+     */
+    private final char [] m_Label;
+
+    /**
+     *  The length of the longest name.
+     */
+    private final int m_MaxLength;
+
+    /**
+     *  The names.
+     */
+    private final String [] m_Names;
+
+    /**
+     *  The index of the next sibling for each node, or
+     *  {@link #NOT_FOUND}
+     *  if the node is the last child of its parent.
+     */
+    private final int [] m_NextSibling;
+
+    /**
+     *  The index of the name that ends at each node, or
+     *  {@link #NOT_FOUND}
+     *  if no name ends there.
+     */
+    private final int [] m_Terminal;
+
+    /**
+     *  The value that is common to all names below each node, or
+     *  {@link #AMBIGUOUS}
+     *  if these names have different values.
+     */
+    private final int [] m_Unique;
+
+    /**
+     *  The values for the names.
+     */
+    private final int [] m_Values;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code OptionTrie} instance.
+     *
+     *  @param  names   The names, in their natural order, without
+     *      duplicates.
+     *  @param  values  The values for the names; the value at a given index
+     *      belongs to the name at the same index. The values may not be
+     *      negative.
+     *  @throws IllegalArgumentException    The two arrays have a different
+     *      length.
+     */
+    public OptionTrie( final String [] names, final int [] values ) throws IllegalArgumentException
+    {
+        m_Names = requireNonNullArgument( names, "names" ).clone();
+        m_Values = requireNonNullArgument( values, "values" ).clone();
+        if( m_Names.length != m_Values.length )
+        {
+            throw new IllegalArgumentException( "The number of values does not match the number of names" );
+        }
+
+        //---* Estimate the number of nodes *----------------------------------
+        var capacity = 1;
+        var maxLength = 0;
+        for( final var name : m_Names )
+        {
+            capacity += name.length();
+            maxLength = max( maxLength, name.length() );
+        }
+        m_MaxLength = maxLength;
+
+        final var label = new char [capacity];
+        final var firstChild = new int [capacity];
+        final var nextSibling = new int [capacity];
+        final var terminal = new int [capacity];
+        final var unique = new int [capacity];
+        firstChild [ROOT] = NOT_FOUND;
+        nextSibling [ROOT] = NOT_FOUND;
+        terminal [ROOT] = NOT_FOUND;
+        unique [ROOT] = NOT_FOUND;
+        var size = 1;
+
+        //---* Insert the names *----------------------------------------------
+        for( var i = 0; i < m_Names.length; ++i )
+        {
+            final var name = m_Names [i];
+            final var value = m_Values [i];
+            var node = ROOT;
+            unique [node] = merge( unique [node], value );
+            for( var pos = 0; pos < name.length(); ++pos )
+            {
+                final var c = name.charAt( pos );
+                var previous = NOT_FOUND;
+                var child = firstChild [node];
+                while( (child != NOT_FOUND) && (label [child] != c) )
+                {
+                    previous = child;
+                    child = nextSibling [child];
+                }
+                if( child == NOT_FOUND )
+                {
+                    /*
+                     * As the names are sorted, a new child is always added
+                     * as the last sibling, and the children of each node stay
+                     * sorted, too.
+                     */
+                    child = size++;
+                    label [child] = c;
+                    firstChild [child] = NOT_FOUND;
+                    nextSibling [child] = NOT_FOUND;
+                    terminal [child] = NOT_FOUND;
+                    unique [child] = NOT_FOUND;
+                    if( previous == NOT_FOUND )
+                    {
+                        firstChild [node] = child;
+                    }
+                    else
+                    {
+                        nextSibling [previous] = child;
+                    }
+                }
+                node = child;
+                unique [node] = merge( unique [node], value );
+            }
+            terminal [node] = i;
+        }
+
+        //---* Trim the arrays *-----------------------------------------------
+        m_Label = Arrays.copyOf( label, size );
+        m_FirstChild = Arrays.copyOf( firstChild, size );
+        m_NextSibling = Arrays.copyOf( nextSibling, size );
+        m_Terminal = Arrays.copyOf( terminal, size );
+        m_Unique = Arrays.copyOf( unique, size );
+    }   //  OptionTrie()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds the names below the given node to the given list, in their
+     *  natural order.
+     *
+     *  @param  node    The node.
+     *  @param  names   The list for the names.
+     */
+    private final void collectNames( final int node, final List<? super String> names )
+    {
+        if( m_Terminal [node] != NOT_FOUND ) names.add( m_Names [m_Terminal [node]] );
+        for( var child = m_FirstChild [node]; child != NOT_FOUND; child = m_NextSibling [child] )
+        {
+            collectNames( child, names );
+        }
+    }   //  collectNames()
+
+    /**
+     *  Returns all names that start with the given prefix.
+     *
+     *  @param  prefix  The prefix.
+     *  @return The names, in their natural order; the list is empty if no
+     *      name starts with the given prefix.
+     */
+    public final List<String> complete( final CharSequence prefix )
+    {
+        final List<String> retValue = new ArrayList<>();
+        final var node = walk( requireNonNullArgument( prefix, "prefix" ), 0, prefix.length() );
+        if( node != NOT_FOUND ) collectNames( node, retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  complete()
+
+    /**
+     *  Returns the value for the given name.
+     *
+     *  @param  name    The name.
+     *  @return The value, or
+     *      {@link #NOT_FOUND}
+     *      if there is no such name.
+     */
+    public final int find( final CharSequence name )
+    {
+        final var retValue = find( requireNonNullArgument( name, "name" ), 0, name.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  find()
+
+    /**
+     *  Returns the value for the name that is given as a range of the given
+     *  character sequence; no copy of that range is made.
+     *
+     *  @param  source  The character sequence that contains the name.
+     *  @param  begin   The index of the first character of the name.
+     *  @param  end The index after the last character of the name.
+     *  @return The value, or
+     *      {@link #NOT_FOUND}
+     *      if there is no such name.
+     */
+    public final int find( final CharSequence source, final int begin, final int end )
+    {
+        final var node = walk( requireNonNullArgument( source, "source" ), begin, end );
+        final var retValue = (node == NOT_FOUND) || (m_Terminal [node] == NOT_FOUND)
+            ? NOT_FOUND
+            : m_Values [m_Terminal [node]];
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  find()
+
+    /**
+     *  Returns the value for the given name, or, if there is no such name,
+     *  the value that is common to all names that start with the given
+     *  token.
+     *
+     *  @param  token   The name, or a prefix of a name.
+     *  @return The value,
+     *      {@link #NOT_FOUND}
+     *      if there is no name that starts with the given token, or
+     *      {@link #AMBIGUOUS}
+     *      if the names that start with the given token have different
+     *      values.
+     */
+    public final int findPrefix( final CharSequence token )
+    {
+        final var retValue = findPrefix( requireNonNullArgument( token, "token" ), 0, token.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findPrefix()
+
+    /**
+     *  Returns the value for the name that is given as a range of the given
+     *  character sequence, or, if there is no such name, the value that is
+     *  common to all names that start with that range; no copy of that range
+     *  is made.
+     *
+     *  @param  source  The character sequence that contains the name, or
+     *      the prefix of a name.
+     *  @param  begin   The index of the first character of the token.
+     *  @param  end The index after the last character of the token.
+     *  @return The value,
+     *      {@link #NOT_FOUND}
+     *      if there is no name that starts with the given token, or
+     *      {@link #AMBIGUOUS}
+     *      if the names that start with the given token have different
+     *      values.
+     */
+    public final int findPrefix( final CharSequence source, final int begin, final int end )
+    {
+        final var node = walk( requireNonNullArgument( source, "source" ), begin, end );
+        final int retValue;
+        if( node == NOT_FOUND )
+        {
+            retValue = NOT_FOUND;
+        }
+        else if( m_Terminal [node] != NOT_FOUND )
+        {
+            //---* An exact match wins always *--------------------------------
+            retValue = m_Values [m_Terminal [node]];
+        }
+        else
+        {
+            retValue = m_Unique [node];
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findPrefix()
+
+    /**
+     *  Merges the given value into the value that is common to all names
+     *  below a node.
+     *
+     *  @param  common  The current common value.
+     *  @param  value   The value to merge.
+     *  @return The new common value.
+     */
+    private static final int merge( final int common, final int value )
+    {
+        final var retValue = (common == NOT_FOUND) || (common == value) ? value : AMBIGUOUS;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  merge()
+
+    /**
+     *  <p>{@summary Returns the names that are most similar to the given
+     *  token.}</p>
+     *  <p>The similarity is measured as the Levenshtein distance; the rows of
+     *  the distance matrix are calculated while the trie is traversed, so
+     *  that the common prefixes of the names are processed only once, and
+     *  branches that cannot provide a name within the given distance are
+     *  skipped.</p>
+     *
+     *  @param  token   The token.
+     *  @param  maxDistance The maximum distance for a name to be considered
+     *      as similar.
+     *  @return The names with the smallest distance to the given token, in
+     *      their natural order; the list is empty if no name is within the
+     *      given distance.
+     */
+    public final List<String> suggest( final CharSequence token, final int maxDistance )
+    {
+        final var columns = requireNonNullArgument( token, "token" ).length() + 1;
+        final var rows = new int [m_MaxLength + 1] [];
+        rows [0] = new int [columns];
+        for( var column = 0; column < columns; ++column ) rows [0] [column] = column;
+
+        final List<String> retValue = new ArrayList<>();
+        final var best = new int [] {maxDistance};
+        for( var child = m_FirstChild [ROOT]; child != NOT_FOUND; child = m_NextSibling [child] )
+        {
+            suggest( token, child, 1, rows, best, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  suggest()
+
+    /**
+     *  Calculates the row of the distance matrix for the given node, and
+     *  descends into its children.
+     *
+     *  @param  token   The token.
+     *  @param  node    The current node.
+     *  @param  depth   The depth of the current node.
+     *  @param  rows    The rows of the distance matrix, one for each depth.
+     *  @param  best    The smallest distance found so far, or the maximum
+     *      distance, as a single element array.
+     *  @param  names   The names with the smallest distance so far.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private final void suggest( final CharSequence token, final int node, final int depth, final int [] [] rows, final int [] best, final List<? super String> names )
+    {
+        final var previous = rows [depth - 1];
+        if( isNull( rows [depth] ) ) rows [depth] = new int [previous.length];
+        final var row = rows [depth];
+
+        final var label = m_Label [node];
+        row [0] = previous [0] + 1;
+        var rowMinimum = row [0];
+        for( var column = 1; column < row.length; ++column )
+        {
+            final var replace = previous [column - 1] + (token.charAt( column - 1 ) == label ? 0 : 1);
+            row [column] = min( replace, min( row [column - 1], previous [column] ) + 1 );
+            rowMinimum = min( rowMinimum, row [column] );
+        }
+
+        final var distance = row [row.length - 1];
+        if( (m_Terminal [node] != NOT_FOUND) && (distance <= best [0]) )
+        {
+            if( distance < best [0] )
+            {
+                best [0] = distance;
+                names.clear();
+            }
+            names.add( m_Names [m_Terminal [node]] );
+        }
+
+        if( rowMinimum <= best [0] )
+        {
+            for( var child = m_FirstChild [node]; child != NOT_FOUND; child = m_NextSibling [child] )
+            {
+                suggest( token, child, depth + 1, rows, best, names );
+            }
+        }
+    }   //  suggest()
+
+    /**
+     *  Walks the trie along the characters of the given range of the given
+     *  token.
+     *
+     *  @param  token   The token.
+     *  @param  begin   The index of the first character.
+     *  @param  end The index after the last character.
+     *  @return The node for the last character of the range, or
+     *      {@link #NOT_FOUND}
+     *      if there is no such node.
+     */
+    private final int walk( final CharSequence token, final int begin, final int end )
+    {
+        var retValue = ROOT;
+        for( var pos = begin; (pos < end) && (retValue != NOT_FOUND); ++pos )
+        {
+            final var c = token.charAt( pos );
+            var child = m_FirstChild [retValue];
+            while( (child != NOT_FOUND) && (m_Label [child] != c) ) child = m_NextSibling [child];
+            retValue = child;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  walk()
+}
+//  class OptionTrie
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,706 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.internal;
+
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Comparator.comparingLong;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.config.SessionBeanEvictionListener.Cause.CAPACITY;
+import static org.tquadrat.foundation.config.SessionBeanEvictionListener.Cause.EXPIRED;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.SessionBeanCachePolicy;
+import org.tquadrat.foundation.config.SessionBeanEvictionListener;
+import org.tquadrat.foundation.config.SessionBeanSpec;
+import org.tquadrat.foundation.lang.AutoLock;
+
+/**
+ *  <p>{@summary The registry for the session configuration beans.}</p>
+ *  <p>The registry holds one concurrent map per configuration bean
+ *  specification; each entry of such a map is a holder for the session bean
+ *  for one session key. Retrieving an existing session bean does not acquire
+ *  any lock, and the creation of a session bean only blocks the callers that
+ *  request the bean for the same specification and the same session key.
+ *  Lookups for different session keys never contend with each other, and
+ *  the bulk operations to drop session beans work on each map in a single
+ *  pass without blocking the lookups.</p>
+ *  <p>The number and the lifetime of the session beans for a specification
+ *  can be limited by a
+ *  {@link SessionBeanCachePolicy}.
+ *  The maintenance for a bounded specification is done by the thread that
+ *  accesses a bean when a limit was exceeded; it never blocks: if another
+ *  thread is already doing the maintenance, the current thread just skips
+ *  it.</p>
+ *  <p>Session beans that implement
+ *  {@link AutoCloseable}
+ *  are closed when they are dropped or evicted, so that they can release
+ *  their resources, like pending notifications for their listeners.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.25.13" )
+public final class SessionBeanRegistry
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A session bean that may be evicted because the maximum number of
+     *  session beans was exceeded.
+     *
+     *  @param  lastAccess  The time of the last access to the session bean
+     *      when it was selected, as returned by
+     *      {@link System#nanoTime()}.
+     *  @param  entry   The entry for the session bean from the cache.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.25.13" )
+    private record EvictionCandidate( long lastAccess, Map.Entry<String,SessionBeanHolder> entry ) {}
+
+    /**
+     *  The holder for a single session configuration bean.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.25.13" )
+    private static final class SessionBeanHolder
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The session bean; will be {@null} until it was created
+         *  successfully.
+         */
+        private volatile SessionBeanSpec m_Bean = null;
+
+        /**
+         *  The time of the last access, as returned by
+         *  {@link System#nanoTime()}.
+         */
+        private volatile long m_LastAccess;
+
+        /**
+         *  The lock that guards the creation of the session bean.
+         */
+        private final AutoLock m_Lock = AutoLock.of( new ReentrantLock() );
+
+        /**
+         *  {@true} if the holder was removed from its cache and released;
+         *  no session bean will be created for a released holder. Guarded by
+         *  {@link #m_Lock}.
+         */
+        private boolean m_Released = false;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code SessionBeanHolder} instance.
+         */
+        public SessionBeanHolder() { m_LastAccess = nanoTime(); }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Marks the holder as released and returns the session bean that
+         *  has to be closed. Because this happens under the same lock as the
+         *  creation of the session bean, a bean is either created before and
+         *  then returned here, or it will not be created at all.
+         *
+         *  @return The session bean; {@null} if it was not created.
+         */
+        public final SessionBeanSpec detach()
+        {
+            final SessionBeanSpec retValue;
+            try( @SuppressWarnings( "unused" ) final var ignored = m_Lock.lock() )
+            {
+                m_Released = true;
+                retValue = m_Bean;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  detach()
+
+        /**
+         *  Returns the session bean, creates it if necessary.
+         *
+         *  @param  <T> The type of the configuration bean specification.
+         *  @param  sessionKey  The session key.
+         *  @param  creator The function that creates the session bean for the
+         *      given session key.
+         *  @return The session bean; {@null} if the holder was released
+         *      before the bean could be created.
+         */
+        @SuppressWarnings( "unchecked" )
+        public final <T extends SessionBeanSpec> T getBean( final String sessionKey, final Function<? super String,? extends T> creator )
+        {
+            var retValue = (T) m_Bean;
+            if( isNull( retValue ) )
+            {
+                try( @SuppressWarnings( "unused" ) final var ignored = m_Lock.lock() )
+                {
+                    retValue = (T) m_Bean;
+                    if( isNull( retValue ) && !m_Released )
+                    {
+                        retValue = creator.apply( sessionKey );
+                        m_Bean = retValue;
+                    }
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  getBean()
+
+        /**
+         *  Returns the session bean without creating it.
+         *
+         *  @return The session bean; {@null} if it was not created yet.
+         */
+        public final SessionBeanSpec peekBean() { return m_Bean; }
+
+        /**
+         *  Records an access to the session bean. To avoid the contention on
+         *  the memory for frequently used beans, the access time is updated
+         *  only when the last recorded access is older than
+         *  {@link SessionBeanRegistry#TOUCH_GRANULARITY}.
+         *
+         *  @param  now The current time, as returned by
+         *      {@link System#nanoTime()}.
+         */
+        public final void touch( final long now )
+        {
+            if( now - m_LastAccess > TOUCH_GRANULARITY ) m_LastAccess = now;
+        }   //  touch()
+    }
+    //  class SessionBeanHolder
+
+    /**
+     *  The session beans for one configuration bean specification, together
+     *  with the policy that limits them.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.25.13" )
+    private static final class SessionBeanCache
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The holders for the session beans, indexed by the session key.
+         */
+        private final ConcurrentMap<String,SessionBeanHolder> m_Beans = new ConcurrentHashMap<>();
+
+        /**
+         *  The time of the last sweep for expired beans, as returned by
+         *  {@link System#nanoTime()}.
+         */
+        private volatile long m_LastSweep = nanoTime();
+
+        /**
+         *  The lock for the maintenance; it is only used with
+         *  {@link ReentrantLock#tryLock()}.
+         */
+        private final ReentrantLock m_MaintenanceLock = new ReentrantLock();
+
+        /**
+         *  The policy.
+         */
+        private volatile SessionBeanCachePolicy m_Policy = SessionBeanCachePolicy.UNBOUNDED;
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Evicts the session beans that exceed the limits from the current
+         *  policy.
+         *
+         *  @param  now The current time, as returned by
+         *      {@link System#nanoTime()}.
+         *  @param  force   {@true} if the sweep for the expired beans has to
+         *      be done regardless of the time of the last sweep,
+         *      {@false} if it should be done only when due.
+         */
+        @SuppressWarnings( "OptionalGetWithoutIsPresent" )
+        public final void maintain( final long now, final boolean force )
+        {
+            final var policy = m_Policy;
+            if( !policy.isBounded() ) return;
+
+            final var idleTimeout = policy.getIdleTimeout().map( Duration::toNanos ).orElse( Long.MAX_VALUE );
+            final var sweepDue = (idleTimeout < Long.MAX_VALUE) && (force || (now - m_LastSweep > idleTimeout / 2));
+            final var maximumSize = policy.getMaximumSize();
+            if( !sweepDue && (m_Beans.size() <= maximumSize) ) return;
+
+            //---* Skip the maintenance if somebody else is already doing it *-
+            if( !m_MaintenanceLock.tryLock() ) return;
+            final List<Map.Entry<String,SessionBeanHolder>> expired = new ArrayList<>();
+            final List<Map.Entry<String,SessionBeanHolder>> evicted = new ArrayList<>();
+            try
+            {
+                if( sweepDue )
+                {
+                    m_LastSweep = now;
+                    for( final var entry : m_Beans.entrySet() )
+                    {
+                        final var holder = entry.getValue();
+                        if( nonNull( holder.peekBean() ) && (now - holder.m_LastAccess > idleTimeout) && m_Beans.remove( entry.getKey(), holder ) )
+                        {
+                            expired.add( entry );
+                        }
+                    }
+                }
+
+                if( m_Beans.size() > maximumSize )
+                {
+                    /*
+                     * A batch of beans is evicted at once, so that the next
+                     * eviction is due only after that many beans were added.
+                     * The least recently used beans are selected with a heap
+                     * that is bounded by the size of the batch; the beans are
+                     * not sorted.
+                     */
+                    final var batchSize = m_Beans.size() - (maximumSize - (maximumSize >> 4));
+                    final PriorityQueue<EvictionCandidate> candidates = new PriorityQueue<>( batchSize + 1, comparingLong( EvictionCandidate::lastAccess ).reversed() );
+                    for( final var entry : m_Beans.entrySet() )
+                    {
+                        final var holder = entry.getValue();
+                        if( nonNull( holder.peekBean() ) )
+                        {
+                            final var lastAccess = holder.m_LastAccess;
+                            if( (candidates.size() < batchSize) || (lastAccess < candidates.peek().lastAccess()) )
+                            {
+                                candidates.add( new EvictionCandidate( lastAccess, entry ) );
+                                if( candidates.size() > batchSize ) candidates.poll();
+                            }
+                        }
+                    }
+                    for( final var candidate : candidates )
+                    {
+                        final var entry = candidate.entry();
+                        if( m_Beans.remove( entry.getKey(), entry.getValue() ) ) evicted.add( entry );
+                    }
+                }
+            }
+            finally
+            {
+                m_MaintenanceLock.unlock();
+            }
+
+            //---* Notify the listener outside the lock *----------------------
+            try
+            {
+                final var listener = policy.getEvictionListener();
+                if( listener.isPresent() )
+                {
+                    notify( listener.get(), expired, EXPIRED );
+                    notify( listener.get(), evicted, CAPACITY );
+                }
+            }
+            finally
+            {
+                //---* Release the beans after the listener has seen them *----
+                for( final var entry : expired ) release( entry.getValue() );
+                for( final var entry : evicted ) release( entry.getValue() );
+            }
+        }   //  maintain()
+
+        /**
+         *  Notifies the given listener about the given evicted beans. An
+         *  exception from the listener is passed to the uncaught exception
+         *  handler of the current thread, so that the listener will be
+         *  notified about the remaining beans nevertheless, and the thread
+         *  that triggered the maintenance does not see it.
+         *
+         *  @param  listener    The listener.
+         *  @param  entries The evicted beans.
+         *  @param  cause   The reason for the eviction.
+         */
+        private static final void notify( final SessionBeanEvictionListener listener, final Iterable<Map.Entry<String,SessionBeanHolder>> entries, final SessionBeanEvictionListener.Cause cause )
+        {
+            for( final var entry : entries )
+            {
+                try
+                {
+                    listener.beanEvicted( entry.getKey(), entry.getValue().peekBean(), cause );
+                }
+                catch( final RuntimeException e )
+                {
+                    final var thread = currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException( thread, e );
+                }
+            }
+        }   //  notify()
+    }
+    //  class SessionBeanCache
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The minimum time between two recorded accesses to the same session
+     *  bean, in nanoseconds: {@value}.
+     */
+    public static final long TOUCH_GRANULARITY = 1_000_000L;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  <p>{@summary The registry.}</p>
+     *  <p>The key is the configuration bean specification interface, the
+     *  value holds the session beans for that specification, indexed by the
+     *  session key.</p>
+     */
+    private final ConcurrentMap<Class<? extends SessionBeanSpec>,SessionBeanCache> m_Registry = new ConcurrentHashMap<>();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SessionBeanRegistry} instance.
+     */
+    public SessionBeanRegistry() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Drops the session bean for the given specification and
+     *  the given session key.}</p>
+     *  <p>Nothing happens if the there is no session bean for the given
+     *  specification and/or session key.</p>
+     *  <p>The dropped session bean will be closed if it implements
+     *  {@link AutoCloseable}.</p>
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  sessionKey  The session key.
+     */
+    public final void drop( final Class<? extends SessionBeanSpec> specification, final String sessionKey )
+    {
+        final var cache = m_Registry.get( requireNonNullArgument( specification, "specification" ) );
+        if( nonNull( cache ) ) release( cache.m_Beans.remove( requireNotEmptyArgument( sessionKey, "sessionKey" ) ) );
+    }   //  drop()
+
+    /**
+     *  Drops all session beans for the given specification.
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @return The number of dropped session beans.
+     */
+    public final int dropAll( final Class<? extends SessionBeanSpec> specification )
+    {
+        final var cache = m_Registry.get( requireNonNullArgument( specification, "specification" ) );
+        final var retValue = isNull( cache ) ? 0 : dropIf( cache, _ -> true );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  dropAll()
+
+    /**
+     *  Drops the session beans for the given session key, for all
+     *  specifications.
+     *
+     *  @param  sessionKey  The session key.
+     *  @return The number of dropped session beans.
+     */
+    public final int dropAll( final String sessionKey )
+    {
+        requireNotEmptyArgument( sessionKey, "sessionKey" );
+
+        var retValue = 0;
+        for( final var cache : m_Registry.values() )
+        {
+            if( release( cache.m_Beans.remove( sessionKey ) ) ) ++retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  dropAll()
+
+    /**
+     *  Drops the session beans for all specifications whose session keys
+     *  match the given filter.
+     *
+     *  @param  filter  The filter for the session keys.
+     *  @return The number of dropped session beans.
+     */
+    public final int dropIf( final Predicate<? super String> filter )
+    {
+        requireNonNullArgument( filter, "filter" );
+
+        var retValue = 0;
+        for( final var cache : m_Registry.values() ) retValue += dropIf( cache, filter );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  dropIf()
+
+    /**
+     *  Drops the session beans from the given cache whose session keys match
+     *  the given filter. The iteration over the cache is weakly consistent;
+     *  session beans that are added concurrently may or may not be dropped.
+     *
+     *  @param  cache   The cache.
+     *  @param  filter  The filter for the session keys.
+     *  @return The number of dropped session beans.
+     */
+    private static final int dropIf( final SessionBeanCache cache, final Predicate<? super String> filter )
+    {
+        var retValue = 0;
+        for( final var sessionKey : cache.m_Beans.keySet() )
+        {
+            if( filter.test( sessionKey ) && release( cache.m_Beans.remove( sessionKey ) ) ) ++retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  dropIf()
+
+    /**
+     *  Evicts the expired session beans for all specifications, and those
+     *  that exceed the maximum number of beans for their specification.
+     */
+    public final void evictExpired()
+    {
+        final var now = nanoTime();
+        for( final var cache : m_Registry.values() ) cache.maintain( now, true );
+    }   //  evictExpired()
+
+    /**
+     *  Returns the cache for the given specification, creates it if
+     *  necessary.
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @return The cache.
+     */
+    private final SessionBeanCache getCache( final Class<? extends SessionBeanSpec> specification )
+    {
+        var retValue = m_Registry.get( specification );
+        if( isNull( retValue ) ) retValue = m_Registry.computeIfAbsent( specification, _ -> new SessionBeanCache() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getCache()
+
+    /**
+     *  <p>{@summary Retrieves the session bean for the given specification
+     *  and the given session key; if there is none yet, it will be created by
+     *  the given creator function.}</p>
+     *  <p>If the holder for the bean is dropped or evicted concurrently while
+     *  the bean is retrieved or created, the lookup is repeated with a new
+     *  holder, so that the returned bean is never one that no longer belongs
+     *  to the registry; the bean from the removed holder will be released by
+     *  the thread that removed it. If the creator fails, the empty holder is
+     *  removed again.</p>
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  sessionKey  The session key.
+     *  @param  creator The function that creates the session bean for the
+     *      given session key.
+     *  @return The session bean.
+     */
+    public final <T extends SessionBeanSpec> T getBean( final Class<? extends T> specification, final String sessionKey, final Function<? super String,? extends T> creator )
+    {
+        requireNonNullArgument( specification, "specification" );
+        requireNotEmptyArgument( sessionKey, "sessionKey" );
+        requireNonNullArgument( creator, "creator" );
+
+        final var cache = getCache( specification );
+        final var beans = cache.m_Beans;
+        T retValue;
+        SessionBeanHolder holder;
+        do
+        {
+            holder = beans.get( sessionKey );
+            if( isNull( holder ) ) holder = beans.computeIfAbsent( sessionKey, _ -> new SessionBeanHolder() );
+            try
+            {
+                retValue = holder.getBean( sessionKey, creator );
+            }
+            catch( final RuntimeException | Error e )
+            {
+                //---* Do not leave an empty holder behind *-------------------
+                final var failed = holder;
+                beans.computeIfPresent( sessionKey, (_, h) -> (h == failed) && isNull( h.peekBean() ) ? null : h );
+                throw e;
+            }
+        }
+        while( beans.get( sessionKey ) != holder );
+
+        //---* Keep the beans within their limits *----------------------------
+        if( cache.m_Policy.isBounded() )
+        {
+            final var now = nanoTime();
+            holder.touch( now );
+            cache.maintain( now, false );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBean()
+
+    /**
+     *  Retrieves the session bean for the given specification and the given
+     *  session key, but does not create it if it does not exist yet.
+     *
+     *  @param  <T> The type of the configuration bean specification.
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  sessionKey  The session key.
+     *  @return The session bean; {@null} if there is none yet.
+     */
+    @SuppressWarnings( "unchecked" )
+    public final <T extends SessionBeanSpec> T getBeanIfPresent( final Class<? extends T> specification, final String sessionKey )
+    {
+        T retValue = null;
+        final var cache = m_Registry.get( requireNonNullArgument( specification, "specification" ) );
+        if( nonNull( cache ) )
+        {
+            final var holder = cache.m_Beans.get( requireNotEmptyArgument( sessionKey, "sessionKey" ) );
+            if( nonNull( holder ) )
+            {
+                retValue = (T) holder.peekBean();
+                if( nonNull( retValue ) && cache.m_Policy.isBounded() ) holder.touch( nanoTime() );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBeanIfPresent()
+
+    /**
+     *  Releases the given holder, and closes its session bean if that
+     *  implements
+     *  {@link AutoCloseable}.
+     *  An exception from closing the bean is passed to the uncaught
+     *  exception handler of the current thread, so that the remaining beans
+     *  will be released nevertheless.
+     *
+     *  @param  holder  The holder that was removed from a cache; can be
+     *      {@null}.
+     *  @return {@true} if the holder contained a session bean,
+     *      {@false} if it was empty or {@null}.
+     */
+    private static final boolean release( final SessionBeanHolder holder )
+    {
+        final var bean = isNull( holder ) ? null : holder.detach();
+        final var retValue = nonNull( bean );
+        if( bean instanceof final AutoCloseable closeable )
+        {
+            try
+            {
+                closeable.close();
+            }
+            catch( final InterruptedException _ )
+            {
+                currentThread().interrupt();
+            }
+            catch( final Exception e )
+            {
+                final var thread = currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException( thread, e );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  release()
+
+    /**
+     *  <p>{@summary Sets the policy that limits the number and the lifetime
+     *  of the session beans for the given specification.} The new limits are
+     *  applied on the next access to a session bean for that
+     *  specification.</p>
+     *  <p>The accesses to the session beans are recorded only while the
+     *  policy for their specification is bounded. So when a bounded policy
+     *  replaces an unbounded one, all existing session beans are treated as
+     *  if they were accessed just now; otherwise, beans that are in use
+     *  would be evicted as idle on the next maintenance.</p>
+     *
+     *  @param  specification   The specification interface for the
+     *      configuration bean.
+     *  @param  policy  The new policy.
+     */
+    public final void setPolicy( final Class<? extends SessionBeanSpec> specification, final SessionBeanCachePolicy policy )
+    {
+        requireNonNullArgument( policy, "policy" );
+        final var cache = getCache( requireNonNullArgument( specification, "specification" ) );
+
+        //---* Reset the access times before the new policy becomes visible *--
+        if( policy.isBounded() && !cache.m_Policy.isBounded() )
+        {
+            final var now = nanoTime();
+            for( final var holder : cache.m_Beans.values() ) holder.m_LastAccess = now;
+        }
+        cache.m_Policy = policy;
+    }   //  setPolicy()
+}
+//  class SessionBeanRegistry
+
+/*
+ *  End of File
+ */
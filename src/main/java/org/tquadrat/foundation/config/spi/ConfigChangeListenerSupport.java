@@ -1,6 +1,6 @@
 /*
  * ============================================================================
- * Copyright © 2002-2023 by Thomas Thrien.
+ * Copyright © 2002-2026 by Thomas Thrien.
  * All Rights Reserved.
  * ============================================================================
  *
@@ -18,30 +18,80 @@
 
 package org.tquadrat.foundation.config.spi;
 
-import static java.lang.String.format;
-import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.config.DispatchMode.ASYNCHRONOUS;
+import static org.tquadrat.foundation.config.spi.ConfigChangeMetrics.NO_METRICS;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
 
-import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.config.ConfigBeanSpec;
 import org.tquadrat.foundation.config.ConfigurationChangeEvent;
 import org.tquadrat.foundation.config.ConfigurationChangeListener;
+import org.tquadrat.foundation.config.DispatchMode;
+import org.tquadrat.foundation.config.OverflowPolicy;
 import org.tquadrat.foundation.lang.AutoLock;
+import org.tquadrat.foundation.lang.Objects;
 
 /**
- *  Provides support for the event handling to the configuration beans.
+ *  <p>{@summary Provides support for the event handling to the configuration
+ *  beans.}</p>
+ *  <p>The listeners are notified through an
+ *  {@link Executor}.
+ *  By default, all instances of {@code ConfigChangeListenerSupport} share
+ *  the same executor, a pool with a fixed number of daemon threads (see
+ *  {@link #getDefaultExecutor()});
+ *  so the number of notifier threads is limited, no matter how many
+ *  configuration beans exist. The default can be replaced with
+ *  {@link #setDefaultExecutor(Executor)},
+ *  for example by an executor that starts a new virtual thread for each
+ *  task, and a configuration bean can use its own executor.</p>
+ *  <p>To keep the memory usage bounded when listeners fall behind, the
+ *  number of pending notifications per listener can be limited with
+ *  {@link #setQueueLimit(int, OverflowPolicy)}.</p>
+ *  <p>Metrics about the delivery of the events can be collected through a
+ *  {@link ConfigChangeMetrics}
+ *  implementation, like
+ *  {@link ConfigChangeStatistics}.</p>
+ *  <p>When the configuration bean is no longer needed, the instance should
+ *  be {@linkplain #close(Duration) closed}; on application shutdown, the
+ *  threads of the shared executor can be released with
+ *  {@link #shutdownSharedExecutor(Duration)}.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -51,8 +101,705 @@ import org.tquadrat.foundation.lang.AutoLock;
  */
 @ClassVersion( sourceVersion = "$Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.1" )
-public final class ConfigChangeListenerSupport
+public final class ConfigChangeListenerSupport implements AutoCloseable
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The scope for a bulk update of a configuration bean.}</p>
+     *  <p>While a bulk update is active for the current thread, the changes
+     *  fired by that thread are collected instead of being sent to the
+     *  listeners immediately. When the outermost bulk update is closed, each
+     *  listener receives all changes at once, through
+     *  {@link ConfigurationChangeListener#propertiesChanged(List)}.</p>
+     *  <p>A bulk update is confined to the thread that started it; it has to
+     *  be closed by that thread, too. A bulk update that is never closed
+     *  keeps collecting the changes fired by its thread, and it keeps the
+     *  check for an active bulk update on each fired event. So it should
+     *  always be used like this:</p>
+     *  <blockquote><div class="source-container"><pre>try( final var bulkUpdate = listenerSupport.beginBulkUpdate() )
+     *{
+     *    …
+     *}</pre></div></blockquote>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @see ConfigChangeListenerSupport#beginBulkUpdate()
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = STABLE, since = "0.25.13" )
+    public static final class BulkUpdate implements AutoCloseable
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The flag that indicates whether this bulk update was already
+         *  closed.
+         */
+        private boolean m_IsClosed = false;
+
+        /**
+         *  The state of the bulk update for the thread that started it.
+         */
+        private final BulkState m_State;
+
+        /**
+         *  The listener support that started this bulk update.
+         */
+        private final ConfigChangeListenerSupport m_Support;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code BulkUpdate} instance.
+         *
+         *  @param  support The listener support that started this bulk
+         *      update.
+         *  @param  state   The state of the bulk update for the thread that
+         *      started it.
+         */
+        private BulkUpdate( final ConfigChangeListenerSupport support, final BulkState state )
+        {
+            m_Support = support;
+            m_State = state;
+        }   //  BulkUpdate()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Ends the bulk update; if this is the outermost bulk update for the
+         *  current thread, the collected changes will be sent to the
+         *  listeners. Calling this method more than once has no effect.
+         *
+         *  @throws IllegalStateException   The current thread is not the
+         *      one that started the bulk update; the bulk update remains
+         *      active.
+         *  @throws RejectedExecutionException  The
+         *      {@linkplain ConfigChangeListenerSupport#setQueueLimit(int, OverflowPolicy) queue is limited}
+         *      with the policy
+         *      {@link OverflowPolicy#FAIL FAIL},
+         *      and the mailbox of at least one listener was full; all other
+         *      listeners got their changes nevertheless.
+         */
+        @Override
+        public final void close() throws IllegalStateException, RejectedExecutionException
+        {
+            if( m_State.m_Owner != currentThread() )
+            {
+                throw new IllegalStateException( "The bulk update was started by thread '%s'".formatted( m_State.m_Owner.getName() ) );
+            }
+            if( !m_IsClosed )
+            {
+                m_IsClosed = true;
+                m_Support.endBulkUpdate( m_State );
+            }
+        }   //  close()
+    }
+    //  class BulkUpdate
+
+    /**
+     *  The changes collected during a bulk update for a thread. The state is
+     *  only accessed by the thread that started the bulk update.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = STABLE, since = "0.25.13" )
+    private static final class BulkState
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The collected changes; the key is the property name, the value
+         *  holds the first old and the last new value.
+         */
+        final Map<String,Object []> m_Changes = new LinkedHashMap<>();
+
+        /**
+         *  The nesting depth; when it drops back to zero, the bulk update has
+         *  ended.
+         */
+        int m_Depth = 0;
+
+        /**
+         *  The thread that started the bulk update.
+         */
+        final Thread m_Owner = currentThread();
+    }
+    //  class BulkState
+
+    /**
+     *  <p>{@summary The registry entry for a listener.} The listener is
+     *  referenced weakly; when it was garbage collected, the entry will be
+     *  put to the
+     *  {@linkplain ConfigChangeListenerSupport#m_StaleEntries reference queue}
+     *  and then removed from the registry.</p>
+     *  <p>The entry holds the mailbox for the pending notifications; it is
+     *  used for a listener with the dispatch mode
+     *  {@link DispatchMode#ORDERED ORDERED},
+     *  and for all asynchronous listeners if the
+     *  {@linkplain ConfigChangeListenerSupport#setQueueLimit(int, OverflowPolicy) queue is limited}.
+     *  The mailbox is drained by at most one task on the executor at a
+     *  time.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = STABLE, since = "0.25.13" )
+    private static final class ListenerEntry extends WeakReference<ConfigurationChangeListener>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The flag that indicates whether a task to drain the mailbox is
+         *  already scheduled or running. Guarded by
+         *  {@link #m_MailboxLock}.
+         */
+        private boolean m_DrainScheduled = false;
+
+        /**
+         *  The thread that currently drains the mailbox; {@null} if the
+         *  mailbox is not drained currently. Guarded by
+         *  {@link #m_MailboxLock}.
+         */
+        private Thread m_DrainingThread = null;
+
+        /**
+         *  The filter for the property names; {@null} if the listener is
+         *  interested in all properties.
+         */
+        private final Predicate<String> m_Filter;
+
+        /**
+         *  The mailbox for the pending notifications. Guarded by
+         *  {@link #m_MailboxLock}.
+         */
+        private final ArrayDeque<Notification> m_Mailbox = new ArrayDeque<>();
+
+        /**
+         *  The lock for the mailbox.
+         */
+        private final ReentrantLock m_MailboxLock = new ReentrantLock();
+
+        /**
+         *  The condition that is signalled when a notification was taken
+         *  from the mailbox.
+         */
+        private final Condition m_MailboxNotFull = m_MailboxLock.newCondition();
+
+        /**
+         *  The dispatch mode.
+         */
+        private final DispatchMode m_Mode;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code ListenerEntry} instance.
+         *
+         *  @param  listener    The listener.
+         *  @param  mode    The dispatch mode.
+         *  @param  filter  The filter for the property names; {@null} if the
+         *      listener is interested in all properties.
+         *  @param  queue   The queue for the stale entries.
+         */
+        public ListenerEntry( final ConfigurationChangeListener listener, final DispatchMode mode, final Predicate<String> filter, final ReferenceQueue<? super ConfigurationChangeListener> queue )
+        {
+            super( listener, queue );
+            m_Mode = mode;
+            m_Filter = filter;
+        }   //  ListenerEntry()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Delivers the given notification to the listener on the current
+         *  thread; an exception thrown by the listener is passed to the
+         *  uncaught exception handler of the current thread.
+         *
+         *  @param  metrics The metrics.
+         *  @param  notification    The notification.
+         */
+        private final void deliver( final ConfigChangeMetrics metrics, final Notification notification )
+        {
+            final var listener = get();
+            if( nonNull( listener ) )
+            {
+                final var start = metrics == NO_METRICS ? 0L : nanoTime();
+                try
+                {
+                    if( nonNull( notification.m_Event ) )
+                    {
+                        listener.propertyChange( notification.m_Event );
+                    }
+                    else
+                    {
+                        listener.propertiesChanged( notification.m_Batch );
+                    }
+                    if( metrics != NO_METRICS ) metrics.notificationDelivered( listener, nanoTime() - start );
+                }
+                catch( final RuntimeException e )
+                {
+                    if( metrics != NO_METRICS ) metrics.notificationFailed( listener, nanoTime() - start, e );
+                    final var thread = currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException( thread, e );
+                }
+            }
+        }   //  deliver()
+
+        /**
+         *  Removes the oldest notification from the mailbox. The caller has
+         *  to hold the
+         *  {@linkplain #m_MailboxLock mailbox lock}.
+         *
+         *  @param  support The listener support that fired the event.
+         *  @param  metrics The metrics.
+         */
+        private final void discardOldest( final ConfigChangeListenerSupport support, final ConfigChangeMetrics metrics )
+        {
+            final var eventCount = m_Mailbox.removeFirst().size();
+            support.m_DroppedEvents.add( eventCount );
+            support.notificationDone();
+            if( metrics != NO_METRICS )
+            {
+                final var listener = get();
+                if( nonNull( listener ) ) metrics.notificationDiscarded( listener, eventCount );
+            }
+        }   //  discardOldest()
+
+        /**
+         *  Delivers the given notification according to the dispatch mode.
+         *
+         *  @param  support The listener support that fired the event.
+         *  @param  executor    The executor.
+         *  @param  notification    The notification.
+         *  @throws RejectedExecutionException  The mailbox is full and the
+         *      overflow policy is
+         *      {@link OverflowPolicy#FAIL FAIL}.
+         */
+        public final void dispatch( final ConfigChangeListenerSupport support, final Executor executor, final Notification notification ) throws RejectedExecutionException
+        {
+            final var limit = support.m_QueueLimit;
+            final var metrics = support.getMetrics();
+            switch( m_Mode )
+            {
+                case ASYNCHRONOUS ->
+                {
+                    if( isNull( limit ) )
+                    {
+                        support.notificationPending();
+                        queued( metrics, 0 );
+                        try
+                        {
+                            executor.execute( () ->
+                            {
+                                try
+                                {
+                                    deliver( metrics, notification );
+                                }
+                                finally
+                                {
+                                    support.notificationDone();
+                                }
+                            } );
+                        }
+                        catch( final RejectedExecutionException e )
+                        {
+                            support.notificationDone();
+                            throw e;
+                        }
+                    }
+                    else
+                    {
+                        post( support, metrics, limit, executor, notification );
+                    }
+                }
+                case ORDERED -> post( support, metrics, limit, executor, notification );
+                case SYNCHRONOUS ->
+                {
+                    queued( metrics, 0 );
+                    deliver( metrics, notification );
+                }
+            }
+        }   //  dispatch()
+
+        /**
+         *  Delivers the notifications from the mailbox, one after the other,
+         *  until the mailbox is empty.
+         *
+         *  @param  support The listener support that fired the events.
+         *  @param  metrics The metrics.
+         */
+        private final void drain( final ConfigChangeListenerSupport support, final ConfigChangeMetrics metrics )
+        {
+            Notification notification;
+            do
+            {
+                m_MailboxLock.lock();
+                try
+                {
+                    notification = m_Mailbox.pollFirst();
+                    if( isNull( notification ) )
+                    {
+                        m_DrainScheduled = false;
+                        m_DrainingThread = null;
+                    }
+                    else
+                    {
+                        m_DrainingThread = currentThread();
+                        m_MailboxNotFull.signal();
+                    }
+                }
+                finally
+                {
+                    m_MailboxLock.unlock();
+                }
+                if( nonNull( notification ) )
+                {
+                    try
+                    {
+                        deliver( metrics, notification );
+                    }
+                    finally
+                    {
+                        support.notificationDone();
+                    }
+                }
+            }
+            while( nonNull( notification ) );
+        }   //  drain()
+
+        /**
+         *  Returns the latest pending single event notification for the
+         *  property with the given name. The caller has to hold the
+         *  {@linkplain #m_MailboxLock mailbox lock}.
+         *
+         *  @param  propertyName    The name of the property.
+         *  @return The pending notification; {@null} if there is none.
+         */
+        private final Notification findPending( final String propertyName )
+        {
+            Notification retValue = null;
+            for( final var iterator = m_Mailbox.descendingIterator(); isNull( retValue ) && iterator.hasNext(); )
+            {
+                final var candidate = iterator.next();
+                if( nonNull( candidate.m_Event ) && candidate.m_Event.getPropertyName().equals( propertyName ) ) retValue = candidate;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  findPending()
+
+        /**
+         *  Makes room in the full mailbox according to the overflow policy.
+         *  The caller has to hold the
+         *  {@linkplain #m_MailboxLock mailbox lock}.
+         *
+         *  @param  support The listener support that fired the event.
+         *  @param  metrics The metrics.
+         *  @param  limit   The limit for the mailbox.
+         *  @param  executor    The executor that drains the mailbox.
+         *  @param  notification    The new notification.
+         *  @return {@true} if the new notification has to be added to the
+         *      mailbox, {@false} if it was merged with a pending one, or if
+         *      it was dropped.
+         *  @throws RejectedExecutionException  The overflow policy is
+         *      {@link OverflowPolicy#FAIL FAIL},
+         *      or it is
+         *      {@link OverflowPolicy#BLOCK BLOCK}
+         *      and the current thread belongs to the shared executor that
+         *      would have to drain the mailbox.
+         */
+        private final boolean handleOverflow( final ConfigChangeListenerSupport support, final ConfigChangeMetrics metrics, final QueueLimit limit, final Executor executor, final Notification notification ) throws RejectedExecutionException
+        {
+            var retValue = true;
+            switch( limit.policy() )
+            {
+                case BLOCK ->
+                {
+                    /*
+                     * Waiting on a thread of the shared pool for a drain task
+                     * that is queued on the same pool may deadlock it.
+                     */
+                    if( (m_DrainingThread != currentThread()) && (executor == m_SharedExecutor) && m_IsNotifierThread.get() )
+                    {
+                        support.m_DroppedEvents.add( notification.size() );
+                        throw new RejectedExecutionException( "The overflow policy BLOCK cannot wait on a thread of the shared notifier pool" );
+                    }
+                    try
+                    {
+                        while( (m_Mailbox.size() >= limit.capacity()) && (m_DrainingThread != currentThread()) )
+                        {
+                            m_MailboxNotFull.await();
+                        }
+                    }
+                    catch( final InterruptedException _ )
+                    {
+                        currentThread().interrupt();
+                        support.m_DroppedEvents.add( notification.size() );
+                        retValue = false;
+                    }
+                }
+                case COALESCE ->
+                {
+                    final var pending = nonNull( notification.m_Event ) ? findPending( notification.m_Event.getPropertyName() ) : null;
+                    if( nonNull( pending ) )
+                    {
+                        replacePending( pending, new Notification( new ConfigurationChangeEvent( notification.m_Event.getSource(), notification.m_Event.getPropertyName(), pending.m_Event.getOldValue(), notification.m_Event.getNewValue() ) ) );
+                        support.m_CoalescedEvents.increment();
+                        retValue = false;
+                    }
+                    else
+                    {
+                        discardOldest( support, metrics );
+                    }
+                }
+                case DROP_OLDEST -> discardOldest( support, metrics );
+                case FAIL ->
+                {
+                    support.m_DroppedEvents.add( notification.size() );
+                    throw new RejectedExecutionException( "The notification queue for the listener is full (capacity: %d)".formatted( limit.capacity() ) );
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  handleOverflow()
+
+        /**
+         *  Checks whether the listener is interested in the property with
+         *  the given name.
+         *
+         *  @param  propertyName    The name of the property.
+         *  @return {@true} if the listener should be notified about changes
+         *      of the property, {@false} otherwise.
+         */
+        public final boolean isInterestedIn( final String propertyName )
+        {
+            final var retValue = isNull( m_Filter ) || m_Filter.test( propertyName );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isInterestedIn()
+
+        /**
+         *  Adds the given notification to the mailbox, and schedules the
+         *  task that drains the mailbox if necessary.
+         *
+         *  @param  support The listener support that fired the event.
+         *  @param  metrics The metrics.
+         *  @param  limit   The limit for the mailbox; {@null} if the mailbox
+         *      is unbounded.
+         *  @param  executor    The executor.
+         *  @param  notification    The notification.
+         *  @throws RejectedExecutionException  The mailbox is full and the
+         *      overflow policy is
+         *      {@link OverflowPolicy#FAIL FAIL}.
+         */
+        private final void post( final ConfigChangeListenerSupport support, final ConfigChangeMetrics metrics, final QueueLimit limit, final Executor executor, final Notification notification ) throws RejectedExecutionException
+        {
+            var schedule = false;
+            var mailboxSize = -1;
+            m_MailboxLock.lock();
+            try
+            {
+                final var add = isNull( limit ) || (m_Mailbox.size() < limit.capacity()) || handleOverflow( support, metrics, limit, executor, notification );
+                if( add )
+                {
+                    support.notificationPending();
+                    m_Mailbox.addLast( notification );
+                    mailboxSize = m_Mailbox.size();
+                }
+                if( !m_DrainScheduled && !m_Mailbox.isEmpty() )
+                {
+                    m_DrainScheduled = true;
+                    schedule = true;
+                }
+            }
+            finally
+            {
+                m_MailboxLock.unlock();
+            }
+            if( mailboxSize > 0 ) queued( metrics, mailboxSize );
+
+            if( schedule )
+            {
+                try
+                {
+                    executor.execute( () -> drain( support, metrics ) );
+                }
+                catch( final RejectedExecutionException e )
+                {
+                    //---* Nobody will drain the mailbox, so discard it *-------
+                    m_MailboxLock.lock();
+                    try
+                    {
+                        m_DrainScheduled = false;
+                        while( !m_Mailbox.isEmpty() ) discardOldest( support, metrics );
+                        m_MailboxNotFull.signalAll();
+                    }
+                    finally
+                    {
+                        m_MailboxLock.unlock();
+                    }
+                    throw e;
+                }
+            }
+        }   //  post()
+
+        /**
+         *  Reports a queued notification to the metrics.
+         *
+         *  @param  metrics The metrics.
+         *  @param  mailboxSize The size of the mailbox.
+         */
+        private final void queued( final ConfigChangeMetrics metrics, final int mailboxSize )
+        {
+            if( metrics != NO_METRICS )
+            {
+                final var listener = get();
+                if( nonNull( listener ) ) metrics.notificationQueued( listener, mailboxSize );
+            }
+        }   //  queued()
+
+        /**
+         *  Replaces the given pending notification in the mailbox, keeping
+         *  its position. Because a notification is shared by all listeners
+         *  for the same event, it must not be modified itself. The caller has
+         *  to hold the
+         *  {@linkplain #m_MailboxLock mailbox lock}.
+         *
+         *  @param  pending The pending notification.
+         *  @param  replacement The replacement.
+         */
+        private final void replacePending( final Notification pending, final Notification replacement )
+        {
+            for( var i = m_Mailbox.size(); i > 0; --i )
+            {
+                final var candidate = m_Mailbox.removeFirst();
+                m_Mailbox.addLast( candidate == pending ? replacement : candidate );
+            }
+        }   //  replacePending()
+    }
+    //  class ListenerEntry
+
+    /**
+     *  A pending notification for a listener; it holds either a single
+     *  event, or the events of a
+     *  {@linkplain ConfigChangeListenerSupport#beginBulkUpdate() bulk update}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = STABLE, since = "0.25.13" )
+    private static final class Notification
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The events of a bulk update; {@null} for a single event.
+         */
+        final List<ConfigurationChangeEvent> m_Batch;
+
+        /**
+         *  The single event; {@null} for a bulk update.
+         */
+        final ConfigurationChangeEvent m_Event;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Notification} instance for a single event.
+         *
+         *  @param  event   The event.
+         */
+        Notification( final ConfigurationChangeEvent event )
+        {
+            m_Event = event;
+            m_Batch = null;
+        }   //  Notification()
+
+        /**
+         *  Creates a new {@code Notification} instance for the events of a
+         *  bulk update.
+         *
+         *  @param  batch   The events.
+         */
+        Notification( final List<ConfigurationChangeEvent> batch )
+        {
+            m_Event = null;
+            m_Batch = batch;
+        }   //  Notification()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the number of events in this notification.
+         *
+         *  @return The number of events.
+         */
+        final int size() { return isNull( m_Batch ) ? 1 : m_Batch.size(); }
+    }
+    //  class Notification
+
+    /**
+     *  The limit for the mailboxes of the listeners.
+     *
+     *  @param  capacity    The maximum number of pending notifications per
+     *      listener.
+     *  @param  policy  The policy for a full mailbox.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.25.13
+     */
+    @ClassVersion( sourceVersion = "$Id: ConfigChangeListenerSupport.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = STABLE, since = "0.25.13" )
+    private record QueueLimit( int capacity, OverflowPolicy policy ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of threads for the shared default executor: the number of
+     *  available processors, but at least 2.
+     */
+    public static final int NOTIFIER_THREADS = max( 2, Runtime.getRuntime().availableProcessors() );
+
+    /**
+     *  An empty array of
+     *  {@link ListenerEntry}
+     *  instances.
+     */
+    private static final ListenerEntry [] NO_LISTENERS = new ListenerEntry [0];
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -62,24 +809,132 @@ public final class ConfigChangeListenerSupport
     private final ConfigBeanSpec m_Owner;
 
     /**
-     *  The registry for the listeners.
+     *  <p>{@summary The registry for the listeners that are interested in
+     *  all properties, or that provided a filter for the property names.}</p>
+     *  <p>The array will never be modified; instead it will be replaced
+     *  completely on each modification of the registry (copy-on-write). This
+     *  allows to fire events without any locking.</p>
      */
-    private final Collection<WeakReference<ConfigurationChangeListener>> m_Listeners = new ArrayList<>();
+    private volatile ListenerEntry [] m_Listeners = NO_LISTENERS;
 
     /**
-     *  The &quot;read&quot; lock for the listener's registry.
+     *  <p>{@summary The index for the listeners that were registered for
+     *  distinct properties.} The key is the property name.</p>
+     *  <p>Like
+     *  {@link #m_Listeners},
+     *  the map and its arrays will never be modified, but replaced
+     *  completely on each modification.</p>
      */
-    private final AutoLock m_ReadLock;
+    private volatile Map<String,ListenerEntry []> m_PropertyListeners = Map.of();
 
     /**
-     *  The thread pool for the notifier threads.
+     *  The lock that serialises the modifications of the listener's
+     *  registry.
      */
-    private final ExecutorService m_ThreadPool;
+    private final AutoLock m_RegistryLock = AutoLock.of( new ReentrantLock() );
 
     /**
-     *  The &quot;write&quot; lock for the listener's registry.
+     *  The queue for the registry entries whose listeners were garbage
+     *  collected.
      */
-    private final AutoLock m_WriteLock;
+    private final ReferenceQueue<ConfigurationChangeListener> m_StaleEntries = new ReferenceQueue<>();
+
+    /**
+     *  The number of bulk updates that are currently active for this
+     *  instance; as long as this is zero, the thread local
+     *  {@link #m_BulkStates}
+     *  needs not to be checked when an event is fired.
+     */
+    private final AtomicInteger m_ActiveBulkUpdates = new AtomicInteger();
+
+    /**
+     *  The states of the active bulk updates, per thread.
+     */
+    private final ThreadLocal<BulkState> m_BulkStates = new ThreadLocal<>();
+
+    /**
+     *  The number of events that were coalesced because a mailbox was full.
+     */
+    private final LongAdder m_CoalescedEvents = new LongAdder();
+
+    /**
+     *  The number of events that were dropped because a mailbox was full.
+     */
+    private final LongAdder m_DroppedEvents = new LongAdder();
+
+    /**
+     *  The limit for the mailboxes of the listeners; {@null} if the
+     *  mailboxes are unbounded.
+     */
+    private volatile QueueLimit m_QueueLimit = null;
+
+    /**
+     *  The executor that is used by this instance to notify the listeners;
+     *  {@null} if the default executor should be used.
+     */
+    private volatile Executor m_Executor;
+
+    /**
+     *  The metrics for this instance; {@null} if the default metrics should
+     *  be used.
+     */
+    private volatile ConfigChangeMetrics m_Metrics = null;
+
+    /**
+     *  The flag that indicates whether this instance was closed.
+     */
+    private volatile boolean m_IsClosed = false;
+
+    /**
+     *  The lock that guards the waiting for the completion of the pending
+     *  notifications.
+     */
+    private final ReentrantLock m_PendingLock = new ReentrantLock();
+
+    /**
+     *  The condition that is signalled when the last pending notification
+     *  was delivered.
+     */
+    private final Condition m_NoPendingNotifications = m_PendingLock.newCondition();
+
+    /**
+     *  The number of notifications that were handed over to the executor,
+     *  or to a mailbox, and that are not yet delivered or discarded.
+     */
+    private final AtomicLong m_PendingNotifications = new AtomicLong();
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The default executor that is used to notify the listeners; {@null}
+     *  if the shared executor should be used.
+     */
+    private static volatile Executor m_DefaultExecutor = null;
+
+    /**
+     *  The default metrics.
+     */
+    private static volatile ConfigChangeMetrics m_DefaultMetrics = NO_METRICS;
+
+    /**
+     *  The shared executor that is used as long as no other default executor
+     *  was set; it will be created on its first use, and again after it was
+     *  {@linkplain #shutdownSharedExecutor(Duration) shut down}.
+     */
+    private static volatile ExecutorService m_SharedExecutor = null;
+
+    /**
+     *  The lock that guards the creation and the shutdown of the
+     *  {@linkplain #m_SharedExecutor shared executor}.
+     */
+    private static final AutoLock m_SharedExecutorLock = AutoLock.of( new ReentrantLock() );
+
+    /**
+     *  The flag that marks the threads of the
+     *  {@linkplain #m_SharedExecutor shared executor}.
+     */
+    private static final ThreadLocal<Boolean> m_IsNotifierThread = ThreadLocal.withInitial( () -> FALSE );
 
         /*--------------*\
     ====** Constructors **=====================================================
@@ -93,75 +948,721 @@ public final class ConfigChangeListenerSupport
     public ConfigChangeListenerSupport( final ConfigBeanSpec owner )
     {
         m_Owner = requireNonNullArgument( owner, "owner" );
+        m_Executor = null;
+    }   //  ConfigChangeListenerSupport()
 
-        //---* Create the locks *----------------------------------------------
-        final var lock = new ReentrantReadWriteLock();
-        m_ReadLock = AutoLock.of( lock.readLock() );
-        m_WriteLock = AutoLock.of( lock.writeLock() );
-
-        //---* Create the thread pool *----------------------------------------
-        final var threadGroup = new ThreadGroup( format( "%s:Notifiers", getClass().getName()) );
-        final var threadFactory = (ThreadFactory) r -> new Thread( threadGroup, r, format( "%s:Notifier", getClass().getName() ) );
-        m_ThreadPool = newCachedThreadPool( threadFactory );
+    /**
+     *  Creates a new {@code ConfigChangeListenerSupport} instance that uses
+     *  the given executor to notify the listeners.
+     *
+     *  @param  owner   The owner of this instance of
+     *      {@code ConfigChangeListenerSupport}.
+     *  @param  executor    The executor for the notifications.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public ConfigChangeListenerSupport( final ConfigBeanSpec owner, final Executor executor )
+    {
+        this( owner );
+        m_Executor = requireNonNullArgument( executor, "executor" );
     }   //  ConfigChangeListenerSupport()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
     /**
-     *  Adds a new listener.
+     *  Adds a new listener that will be notified
+     *  {@linkplain DispatchMode#ASYNCHRONOUS asynchronously}.
+     *  Nothing happens if the listener was already added before.
      *
      *  @param  listener    The new listener.
      */
     public final void addListener( final ConfigurationChangeListener listener )
     {
-        requireNonNullArgument( listener, "listener" );
-        try( final var ignored = m_WriteLock.lock() )
+        addListener( listener, ASYNCHRONOUS );
+    }   //  addListener()
+
+    /**
+     *  Adds a new listener with the given dispatch mode. Nothing happens if
+     *  the listener was already added before; in particular, its dispatch
+     *  mode will not be changed.
+     *
+     *  @param  listener    The new listener.
+     *  @param  mode    The dispatch mode for the listener.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void addListener( final ConfigurationChangeListener listener, final DispatchMode mode )
+    {
+        register( listener, requireNonNullArgument( mode, "mode" ), null, null );
+    }   //  addListener()
+
+    /**
+     *  Adds a new listener that will be notified
+     *  {@linkplain DispatchMode#ASYNCHRONOUS asynchronously}
+     *  about the changes of those properties whose names are accepted by
+     *  the given filter. Nothing happens if the listener was already added
+     *  before.
+     *
+     *  @param  listener    The new listener.
+     *  @param  filter  The filter for the property names.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void addListener( final ConfigurationChangeListener listener, final Predicate<String> filter )
+    {
+        addListener( listener, filter, ASYNCHRONOUS );
+    }   //  addListener()
+
+    /**
+     *  <p>{@summary Adds a new listener with the given dispatch mode that
+     *  will be notified about the changes of those properties whose names
+     *  are accepted by the given filter.} Nothing happens if the listener was
+     *  already added before.</p>
+     *  <p>The filter is evaluated each time an event is fired; if the names
+     *  of the properties are known in advance,
+     *  {@link #addListener(ConfigurationChangeListener, Set, DispatchMode)}
+     *  should be preferred.</p>
+     *
+     *  @param  listener    The new listener.
+     *  @param  filter  The filter for the property names.
+     *  @param  mode    The dispatch mode for the listener.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void addListener( final ConfigurationChangeListener listener, final Predicate<String> filter, final DispatchMode mode )
+    {
+        register( listener, requireNonNullArgument( mode, "mode" ), null, requireNonNullArgument( filter, "filter" ) );
+    }   //  addListener()
+
+    /**
+     *  Adds a new listener that will be notified
+     *  {@linkplain DispatchMode#ASYNCHRONOUS asynchronously}
+     *  only about the changes of the properties with the given names.
+     *  Nothing happens if the listener was already added before.
+     *
+     *  @param  listener    The new listener.
+     *  @param  propertyNames   The names of the properties.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void addListener( final ConfigurationChangeListener listener, final Set<String> propertyNames )
+    {
+        addListener( listener, propertyNames, ASYNCHRONOUS );
+    }   //  addListener()
+
+    /**
+     *  <p>{@summary Adds a new listener with the given dispatch mode that
+     *  will be notified only about the changes of the properties with the
+     *  given names.} Nothing happens if the listener was already added
+     *  before.</p>
+     *  <p>The listener is put to an index by property name, so firing an
+     *  event for another property does not touch it at all.</p>
+     *
+     *  @param  listener    The new listener.
+     *  @param  propertyNames   The names of the properties.
+     *  @param  mode    The dispatch mode for the listener.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void addListener( final ConfigurationChangeListener listener, final Set<String> propertyNames, final DispatchMode mode )
+    {
+        requireNotEmptyArgument( propertyNames, "propertyNames" );
+        for( final var propertyName : propertyNames ) requireNotEmptyArgument( propertyName, "propertyName" );
+        register( listener, requireNonNullArgument( mode, "mode" ), Set.copyOf( propertyNames ), null );
+    }   //  addListener()
+
+    /**
+     *  Creates a copy of the given array with the given entry appended.
+     *
+     *  @param  entries The registry entries.
+     *  @param  entry   The new entry.
+     *  @return The new array.
+     */
+    private static final ListenerEntry [] append( final ListenerEntry [] entries, final ListenerEntry entry )
+    {
+        final var retValue = Arrays.copyOf( entries, entries.length + 1 );
+        retValue [entries.length] = entry;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  append()
+
+    /**
+     *  <p>{@summary Waits until all pending notifications were delivered,
+     *  or until the given timeout elapsed.}</p>
+     *  <p>The pending notifications are those that were handed over to the
+     *  executor, or that wait in the mailbox of a listener; listeners with
+     *  the dispatch mode
+     *  {@link DispatchMode#SYNCHRONOUS SYNCHRONOUS}
+     *  are called directly and will never have pending notifications.</p>
+     *  <p>This method must not be called by a listener of this instance, as
+     *  it would then wait for its own completion.</p>
+     *
+     *  @param  timeout The maximum time to wait.
+     *  @return {@true} if there are no pending notifications left,
+     *      {@false} if the timeout elapsed before.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final boolean awaitPendingNotifications( final Duration timeout ) throws InterruptedException
+    {
+        var nanos = requireNonNullArgument( timeout, "timeout" ).toNanos();
+        final boolean retValue;
+        m_PendingLock.lock();
+        try
+        {
+            while( (m_PendingNotifications.get() > 0) && (nanos > 0) )
+            {
+                nanos = m_NoPendingNotifications.awaitNanos( nanos );
+            }
+            retValue = m_PendingNotifications.get() == 0;
+        }
+        finally
         {
-            //---* Copy the current registry *---------------------------------
-            final var copy = m_Listeners.stream()
-                .filter( r -> nonNull( r.get() ) )
-                .toList();
+            m_PendingLock.unlock();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  awaitPendingNotifications()
+
+    /**
+     *  <p>{@summary Starts a bulk update for the current thread.}</p>
+     *  <p>Until the returned
+     *  {@link BulkUpdate}
+     *  is closed, the events that are fired by the current thread are not
+     *  sent to the listeners; instead, the changes are collected per
+     *  property, keeping the first old value and the last new value.
+     *  Properties that have the same value at the end of the bulk update as
+     *  before are omitted. When the bulk update is closed, each listener is
+     *  notified once with the list of all changes.</p>
+     *  <p>Bulk updates can be nested; only the closing of the outermost one
+     *  will send the changes. Events that are fired by other threads are not
+     *  affected. The returned scope has to be closed by the current
+     *  thread.</p>
+     *
+     *  @return The scope for the bulk update.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final BulkUpdate beginBulkUpdate()
+    {
+        var state = m_BulkStates.get();
+        if( isNull( state ) )
+        {
+            state = new BulkState();
+            m_BulkStates.set( state );
+            m_ActiveBulkUpdates.incrementAndGet();
+        }
+        ++state.m_Depth;
+        final var retValue = new BulkUpdate( this, state );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  beginBulkUpdate()
+
+    /**
+     *  <p>{@summary Closes this instance without waiting for the pending
+     *  notifications.}</p>
+     *  <p>Afterwards, events will no longer be fired, and all listeners are
+     *  removed; notifications that are already pending will still be
+     *  delivered.</p>
+     *
+     *  @see #close(Duration)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    @Override
+    public final void close()
+    {
+        m_IsClosed = true;
+        try( @SuppressWarnings( "unused" ) final var ignored = m_RegistryLock.lock() )
+        {
+            m_Listeners = NO_LISTENERS;
+            m_PropertyListeners = Map.of();
+        }
+    }   //  close()
+
+    /**
+     *  <p>{@summary Closes this instance, and waits until the pending
+     *  notifications were delivered, or until the given timeout
+     *  elapsed.}</p>
+     *  <p>Afterwards, events will no longer be fired, new listeners will be
+     *  ignored, and all listeners are removed. Calling this method again
+     *  just waits for the remaining notifications.</p>
+     *  <p>The executor of this instance is not shut down, as it is usually
+     *  shared with other instances; the threads of the shared default
+     *  executor can be released with
+     *  {@link #shutdownSharedExecutor(Duration)}.</p>
+     *
+     *  @param  timeout The maximum time to wait for the pending
+     *      notifications.
+     *  @return {@true} if all pending notifications were delivered,
+     *      {@false} if the timeout elapsed before.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting; the instance is closed nevertheless.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final boolean close( final Duration timeout ) throws InterruptedException
+    {
+        requireNonNullArgument( timeout, "timeout" );
+        m_IsClosed = true;
+        final boolean retValue;
+        try
+        {
+            retValue = awaitPendingNotifications( timeout );
+        }
+        finally
+        {
+            close();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  close()
+
+    /**
+     *  Collects the given change if a bulk update is active for the current
+     *  thread.
+     *
+     *  @param  propertyName    The name of the property.
+     *  @param  oldValue    The old value; can be {@null}.
+     *  @param  newValue    The new value; can be {@null}.
+     *  @return {@true} if the change was collected, {@false} if no bulk
+     *      update is active for the current thread.
+     */
+    private final boolean collect( final String propertyName, final Object oldValue, final Object newValue )
+    {
+        final var state = m_BulkStates.get();
+        final var retValue = nonNull( state );
+        if( retValue )
+        {
+            final var values = state.m_Changes.get( propertyName );
+            if( isNull( values ) )
+            {
+                state.m_Changes.put( propertyName, new Object [] {oldValue, newValue} );
+            }
+            else
+            {
+                values [1] = newValue;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  collect()
+
+    /**
+     *  Creates the shared executor, a pool with
+     *  {@link #NOTIFIER_THREADS}
+     *  daemon threads that terminate when they are idle for a minute.
+     *
+     *  @return The new executor.
+     */
+    private static final ExecutorService createSharedExecutor()
+    {
+        final var threadCounter = new AtomicInteger();
+        final var retValue = new ThreadPoolExecutor( NOTIFIER_THREADS, NOTIFIER_THREADS, 60L, SECONDS, new LinkedBlockingQueue<>(), r ->
+        {
+            final Runnable worker = () ->
+            {
+                m_IsNotifierThread.set( TRUE );
+                r.run();
+            };
+            final var thread = new Thread( worker, "%s:Notifier-%d".formatted( ConfigChangeListenerSupport.class.getName(), threadCounter.incrementAndGet() ) );
+            thread.setDaemon( true );
+            return thread;
+        } );
+        retValue.allowCoreThreadTimeOut( true );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createSharedExecutor()
 
-            //---* Clear the current registry *--------------------------------
-            m_Listeners.clear();
+    /**
+     *  <p>{@summary Ends a bulk update with the given state; if it was the
+     *  outermost one, the collected changes will be sent to the
+     *  listeners.}</p>
+     *  <p>This method is only called by the thread that started the bulk
+     *  update.</p>
+     *  <p>The changes are dispatched to each listener separately, so that a
+     *  full mailbox for one listener does not prevent the delivery to the
+     *  others.</p>
+     *
+     *  @param  state   The state of the bulk update.
+     *  @throws RejectedExecutionException  The mailbox of at least one
+     *      listener was full, and the overflow policy is
+     *      {@link OverflowPolicy#FAIL FAIL}.
+     */
+    private final void endBulkUpdate( final BulkState state ) throws RejectedExecutionException
+    {
+        if( --state.m_Depth == 0 )
+        {
+            m_BulkStates.remove();
+            m_ActiveBulkUpdates.decrementAndGet();
 
-            //---* Add the new listener *--------------------------------------
-            if( copy.stream().map( Reference::get ).noneMatch( r -> r == listener ) )
+            final List<ConfigurationChangeEvent> events = new ArrayList<>( state.m_Changes.size() );
+            for( final var entry : state.m_Changes.entrySet() )
             {
-                m_Listeners.add( new WeakReference<>( listener ) );
+                final var values = entry.getValue();
+                if( !Objects.equals( values [0], values [1] ) )
+                {
+                    events.add( new ConfigurationChangeEvent( m_Owner, entry.getKey(), values [0], values [1] ) );
+                }
             }
+            if( !events.isEmpty() )
+            {
+                //---* Collect the events for each listener *------------------
+                final var listeners = m_Listeners;
+                final var propertyListeners = m_PropertyListeners;
+                final Map<ListenerEntry,List<ConfigurationChangeEvent>> batches = new LinkedHashMap<>();
+                for( final var event : events )
+                {
+                    final var propertyName = event.getPropertyName();
+                    for( final var entry : listeners )
+                    {
+                        if( entry.isInterestedIn( propertyName ) ) batches.computeIfAbsent( entry, _ -> new ArrayList<>() ).add( event );
+                    }
+                    for( final var entry : propertyListeners.getOrDefault( propertyName, NO_LISTENERS ) )
+                    {
+                        batches.computeIfAbsent( entry, _ -> new ArrayList<>() ).add( event );
+                    }
+                }
 
-            //---* Put back the copy *-----------------------------------------
-            m_Listeners.addAll( copy );
+                //---* Notify the listeners *----------------------------------
+                final var executor = getExecutor();
+                RejectedExecutionException rejection = null;
+                for( final var batchEntry : batches.entrySet() )
+                {
+                    final var entry = batchEntry.getKey();
+                    if( nonNull( entry.get() ) )
+                    {
+                        try
+                        {
+                            entry.dispatch( this, executor, new Notification( unmodifiableList( batchEntry.getValue() ) ) );
+                        }
+                        catch( final RejectedExecutionException e )
+                        {
+                            if( isNull( rejection ) ) rejection = e;
+                            else rejection.addSuppressed( e );
+                        }
+                    }
+                }
+                if( nonNull( rejection ) ) throw rejection;
+            }
         }
-    }   //  addListener()
+    }   //  endBulkUpdate()
 
     /**
-     *  Fires the event to all registered listeners. Each listener will be
-     *  called in its own thread.
+     *  <p>{@summary Fires the event to all registered listeners.} Each
+     *  listener will be called according to the
+     *  {@linkplain DispatchMode dispatch mode}
+     *  it was registered with: either asynchronously, through the
+     *  {@linkplain #getExecutor() executor}
+     *  of this instance, or directly by the current thread.</p>
+     *  <p>Looking up the listeners does not acquire any lock, and if there
+     *  are no listeners, this method does not allocate any memory; all
+     *  listeners share the same notification for the event. Entries for
+     *  listeners that were garbage collected are removed from the registry
+     *  before the event is fired; the check for such entries is a
+     *  non-blocking poll of the
+     *  {@linkplain #m_StaleEntries reference queue},
+     *  and only if there are any, the registry lock is acquired to remove
+     *  them.</p>
+     *  <p>If a
+     *  {@linkplain #beginBulkUpdate() bulk update}
+     *  is active for the current thread, the change is collected and sent
+     *  when the bulk update ends.</p>
+     *  <p>After this instance was
+     *  {@linkplain #close() closed},
+     *  this method does nothing.</p>
      *
      *  @param  propertyName    The name of the property.
      *  @param  oldValue    The old value; can be {@null}.
      *  @param  newValue    The new value; can be {@null}.
+     *  @throws RejectedExecutionException  The
+     *      {@linkplain #setQueueLimit(int, OverflowPolicy) queue is limited}
+     *      with the policy
+     *      {@link OverflowPolicy#FAIL FAIL},
+     *      and the mailbox of a listener is full.
      */
-    public final void fireEvent( final String propertyName, final Object oldValue, final Object newValue )
+    public final void fireEvent( final String propertyName, final Object oldValue, final Object newValue ) throws RejectedExecutionException
     {
         requireNotEmptyArgument( propertyName, "propertyName" );
+        if( m_IsClosed ) return;
+
+        final var metrics = getMetrics();
+        if( metrics != NO_METRICS ) metrics.eventFired( m_Owner, propertyName );
+
+        if( (m_ActiveBulkUpdates.get() > 0) && collect( propertyName, oldValue, newValue ) ) return;
 
-        try( final var ignored = m_ReadLock.lock() )
+        //---* Remove the entries of collected listeners *---------------------
+        final var staleEntry = m_StaleEntries.poll();
+        if( nonNull( staleEntry ) )
         {
-            if( !m_Listeners.isEmpty() )
+            try( @SuppressWarnings( "unused" ) final var ignored = m_RegistryLock.lock() )
             {
-                final var event = new ConfigurationChangeEvent( m_Owner, propertyName, oldValue, newValue );
-                for( final var listenerRef : m_Listeners )
+                purgeStaleEntries( (ListenerEntry) staleEntry );
+            }
+        }
+
+        final var listeners = m_Listeners;
+        final var propertyListeners = m_PropertyListeners.getOrDefault( propertyName, NO_LISTENERS );
+        if( (listeners.length > 0) || (propertyListeners.length > 0) )
+        {
+            final var notification = new Notification( new ConfigurationChangeEvent( m_Owner, propertyName, oldValue, newValue ) );
+            final var executor = getExecutor();
+
+            //---* Listeners collected meanwhile are skipped *-----------------
+            for( final var entry : listeners )
+            {
+                if( nonNull( entry.get() ) && entry.isInterestedIn( propertyName ) ) entry.dispatch( this, executor, notification );
+            }
+            for( final var entry : propertyListeners )
+            {
+                if( nonNull( entry.get() ) ) entry.dispatch( this, executor, notification );
+            }
+        }
+    }   //  fireEvent()
+
+    /**
+     *  Returns the number of events that were coalesced with a pending
+     *  notification because the mailbox of a listener was full.
+     *
+     *  @return The number of coalesced events.
+     *
+     *  @see OverflowPolicy#COALESCE
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final long getCoalescedEventCount() { return m_CoalescedEvents.sum(); }
+
+    /**
+     *  Returns the executor that is used to notify the listeners for all
+     *  configuration beans that do not have their own executor.
+     *
+     *  @return The default executor.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final Executor getDefaultExecutor()
+    {
+        final var defaultExecutor = m_DefaultExecutor;
+        final var retValue = nonNull( defaultExecutor ) ? defaultExecutor : getSharedExecutor();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getDefaultExecutor()
+
+    /**
+     *  Returns the number of events that were dropped because the mailbox
+     *  of a listener was full. For a bulk update, each event of the batch
+     *  is counted.
+     *
+     *  @return The number of dropped events.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final long getDroppedEventCount() { return m_DroppedEvents.sum(); }
+
+    /**
+     *  Returns the executor that is used by this instance to notify the
+     *  listeners.
+     *
+     *  @return The executor.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final Executor getExecutor()
+    {
+        final var executor = m_Executor;
+        final var retValue = nonNull( executor ) ? executor : getDefaultExecutor();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getExecutor()
+
+    /**
+     *  Returns the metrics that are used by this instance.
+     *
+     *  @return The metrics.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final ConfigChangeMetrics getMetrics()
+    {
+        final var metrics = m_Metrics;
+        final var retValue = nonNull( metrics ) ? metrics : m_DefaultMetrics;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getMetrics()
+
+    /**
+     *  Returns the number of notifications that were not yet delivered.
+     *
+     *  @return The number of pending notifications.
+     *
+     *  @see #awaitPendingNotifications(Duration)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final long getPendingNotificationCount() { return m_PendingNotifications.get(); }
+
+    /**
+     *  Returns the shared executor; it will be created if necessary.
+     *
+     *  @return The shared executor.
+     */
+    private static final ExecutorService getSharedExecutor()
+    {
+        var retValue = m_SharedExecutor;
+        if( isNull( retValue ) )
+        {
+            try( @SuppressWarnings( "unused" ) final var ignored = m_SharedExecutorLock.lock() )
+            {
+                retValue = m_SharedExecutor;
+                if( isNull( retValue ) )
                 {
-                    final var listener = listenerRef.get();
-                    if( nonNull( listener ) ) m_ThreadPool.submit( () -> listener.propertyChange( event ) );
+                    retValue = createSharedExecutor();
+                    m_SharedExecutor = retValue;
                 }
             }
         }
-    }   //  fireEvent()
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getSharedExecutor()
+
+    /**
+     *  Returns the flag that indicates whether this instance was closed.
+     *
+     *  @return {@true} if this instance was closed, {@false} otherwise.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final boolean isClosed() { return m_IsClosed; }
+
+    /**
+     *  Checks whether the given listener is already registered.
+     *
+     *  @param  listener    The listener.
+     *  @return {@true} if the listener is registered, {@false} otherwise.
+     */
+    private final boolean isRegistered( final ConfigurationChangeListener listener )
+    {
+        final Predicate<ListenerEntry> isListener = entry -> entry.get() == listener;
+        final var retValue = Arrays.stream( m_Listeners ).anyMatch( isListener )
+            || m_PropertyListeners.values().stream().flatMap( Arrays::stream ).anyMatch( isListener );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isRegistered()
+
+    /**
+     *  Records that a pending notification was delivered or discarded, and
+     *  wakes up the threads that wait for the pending notifications if it
+     *  was the last one.
+     */
+    private final void notificationDone()
+    {
+        if( m_PendingNotifications.decrementAndGet() == 0 )
+        {
+            m_PendingLock.lock();
+            try
+            {
+                m_NoPendingNotifications.signalAll();
+            }
+            finally
+            {
+                m_PendingLock.unlock();
+            }
+        }
+    }   //  notificationDone()
+
+    /**
+     *  Records a new pending notification.
+     */
+    private final void notificationPending() { m_PendingNotifications.incrementAndGet(); }
+
+    /**
+     *  Removes the entries from the registry that were put to the
+     *  {@linkplain #m_StaleEntries reference queue}
+     *  since the last call; only the arrays that contain such an entry are
+     *  copied. The caller has to hold the
+     *  {@linkplain #m_RegistryLock registry lock}.
+     *
+     *  @param  staleEntry  An entry that the caller already took from the
+     *      reference queue; can be {@null}.
+     */
+    private final void purgeStaleEntries( final ListenerEntry staleEntry )
+    {
+        final Set<ListenerEntry> staleEntries = new HashSet<>();
+        if( nonNull( staleEntry ) ) staleEntries.add( staleEntry );
+        for( var reference = m_StaleEntries.poll(); nonNull( reference ); reference = m_StaleEntries.poll() )
+        {
+            staleEntries.add( (ListenerEntry) reference );
+        }
+        if( !staleEntries.isEmpty() ) retainAll( entry -> !staleEntries.contains( entry ) );
+    }   //  purgeStaleEntries()
+
+    /**
+     *  Adds a new registry entry for the given listener, unless it is
+     *  already registered.
+     *
+     *  @param  listener    The new listener.
+     *  @param  mode    The dispatch mode for the listener.
+     *  @param  propertyNames   The names of the properties the listener is
+     *      interested in; {@null} if it is interested in all properties.
+     *  @param  filter  The filter for the property names; {@null} if the
+     *      listener is interested in all properties.
+     */
+    private final void register( final ConfigurationChangeListener listener, final DispatchMode mode, final Set<String> propertyNames, final Predicate<String> filter )
+    {
+        requireNonNullArgument( listener, "listener" );
+        try( @SuppressWarnings( "unused" ) final var ignored = m_RegistryLock.lock() )
+        {
+            purgeStaleEntries( null );
+            if( !m_IsClosed && !isRegistered( listener ) )
+            {
+                final var entry = new ListenerEntry( listener, mode, filter, m_StaleEntries );
+                if( isNull( propertyNames ) )
+                {
+                    m_Listeners = append( m_Listeners, entry );
+                }
+                else
+                {
+                    final Map<String,ListenerEntry []> propertyListeners = new HashMap<>( m_PropertyListeners );
+                    for( final var propertyName : propertyNames )
+                    {
+                        propertyListeners.put( propertyName, append( propertyListeners.getOrDefault( propertyName, NO_LISTENERS ), entry ) );
+                    }
+                    m_PropertyListeners = Map.copyOf( propertyListeners );
+                }
+            }
+        }
+    }   //  register()
 
     /**
      *  Removes the given listener.
@@ -172,22 +1673,208 @@ public final class ConfigChangeListenerSupport
     {
         if( nonNull( listener ) )
         {
-            try( final var ignored = m_WriteLock.lock() )
+            try( @SuppressWarnings( "unused" ) final var ignored = m_RegistryLock.lock() )
             {
-                //---* Copy the current registry *-----------------------------
-                final var copy = m_Listeners.stream()
-                    .filter( r -> nonNull( r.get() ) )
-                    .filter( r -> r.get() != listener )
-                    .toList();
-
-                //---* Clear the current registry *----------------------------
-                m_Listeners.clear();
-
-                //---* Put back the copy *-------------------------------------
-                m_Listeners.addAll( copy );
+                purgeStaleEntries( null );
+                retainAll( entry -> entry.get() != listener );
             }
         }
     }   //  removeListener()
+
+    /**
+     *  Removes the limit for the mailboxes of the listeners; afterwards,
+     *  listeners with the dispatch mode
+     *  {@link DispatchMode#ASYNCHRONOUS ASYNCHRONOUS}
+     *  will be notified directly through the executor again.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void removeQueueLimit() { m_QueueLimit = null; }
+
+    /**
+     *  Returns the entries from the given array that match the given
+     *  condition.
+     *
+     *  @param  entries The registry entries.
+     *  @param  condition   The condition.
+     *  @return The matching entries; this is the given array itself if all
+     *      entries matched.
+     */
+    private static final ListenerEntry [] retain( final ListenerEntry [] entries, final Predicate<ListenerEntry> condition )
+    {
+        var retValue = Arrays.stream( entries ).filter( condition ).toArray( ListenerEntry []::new );
+        if( retValue.length == entries.length ) retValue = entries;
+        else if( retValue.length == 0 ) retValue = NO_LISTENERS;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retain()
+
+    /**
+     *  Removes all entries from the registry that do not match the given
+     *  condition. The caller has to hold the
+     *  {@linkplain #m_RegistryLock registry lock}.
+     *
+     *  @param  condition   The condition for the entries to keep.
+     */
+    private final void retainAll( final Predicate<ListenerEntry> condition )
+    {
+        m_Listeners = retain( m_Listeners, condition );
+
+        final Map<String,ListenerEntry []> propertyListeners = new HashMap<>();
+        var modified = false;
+        for( final var mapEntry : m_PropertyListeners.entrySet() )
+        {
+            final var entries = retain( mapEntry.getValue(), condition );
+            modified |= entries != mapEntry.getValue();
+            if( entries.length > 0 ) propertyListeners.put( mapEntry.getKey(), entries );
+        }
+        if( modified ) m_PropertyListeners = Map.copyOf( propertyListeners );
+    }   //  retainAll()
+
+    /**
+     *  <p>{@summary Sets the executor that is used to notify the listeners
+     *  for all configuration beans that do not have their own executor.}</p>
+     *  <p>The executor is not shut down when it is replaced.</p>
+     *
+     *  @param  executor    The new default executor; {@null} to restore
+     *      the shared pool with
+     *      {@link #NOTIFIER_THREADS}
+     *      threads.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final void setDefaultExecutor( final Executor executor ) { m_DefaultExecutor = executor; }
+
+    /**
+     *  Sets the metrics that are used by all configuration beans that do not
+     *  have their own metrics.
+     *
+     *  @param  metrics The new default metrics; {@null} to disable the
+     *      collection of metrics.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final void setDefaultMetrics( final ConfigChangeMetrics metrics ) { m_DefaultMetrics = nonNull( metrics ) ? metrics : NO_METRICS; }
+
+    /**
+     *  Sets the executor that is used by this instance to notify the
+     *  listeners.
+     *
+     *  @param  executor    The executor; {@null} to use the
+     *      {@linkplain #getDefaultExecutor() default executor}.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void setExecutor( final Executor executor ) { m_Executor = executor; }
+
+    /**
+     *  Sets the metrics that are used by this instance.
+     *
+     *  @param  metrics The metrics; {@null} to use the default metrics.
+     *
+     *  @see #setDefaultMetrics(ConfigChangeMetrics)
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void setMetrics( final ConfigChangeMetrics metrics ) { m_Metrics = metrics; }
+
+    /**
+     *  <p>{@summary Limits the number of pending notifications per
+     *  listener.}</p>
+     *  <p>Without a limit, the notifications for listeners that fall behind
+     *  will pile up in the queue of the executor. With a limit, each
+     *  listener that is not notified
+     *  {@linkplain DispatchMode#SYNCHRONOUS synchronously}
+     *  gets a bounded mailbox that is drained by at most one task at a
+     *  time; this means that listeners with the dispatch mode
+     *  {@link DispatchMode#ASYNCHRONOUS ASYNCHRONOUS}
+     *  will no longer be called concurrently with themselves. When a mailbox
+     *  is full, the given overflow policy determines what happens with a new
+     *  event.</p>
+     *  <p>The number of events that were dropped or coalesced can be
+     *  retrieved with
+     *  {@link #getDroppedEventCount()}
+     *  and
+     *  {@link #getCoalescedEventCount()}.</p>
+     *  <p>The policy
+     *  {@link OverflowPolicy#BLOCK BLOCK}
+     *  requires an executor whose threads do not fire events themselves, as
+     *  a blocked thread of the executor waits for a task that is queued
+     *  behind it. On the threads of the shared default executor, a blocking
+     *  event is therefore rejected with a
+     *  {@link RejectedExecutionException};
+     *  any other executor has to be dedicated to the notifications.</p>
+     *
+     *  @param  capacity    The maximum number of pending notifications per
+     *      listener.
+     *  @param  policy  The policy for a full mailbox.
+     *  @throws IllegalArgumentException    The capacity is less than 1.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public final void setQueueLimit( final int capacity, final OverflowPolicy policy ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( policy, "policy" );
+        if( capacity < 1 )
+        {
+            throw new IllegalArgumentException( "The capacity must be greater than 0: %d".formatted( capacity ) );
+        }
+        m_QueueLimit = new QueueLimit( capacity, policy );
+    }   //  setQueueLimit()
+
+    /**
+     *  <p>{@summary Shuts down the shared executor that is used when no
+     *  other default executor was set, and waits for the termination of its
+     *  threads.}</p>
+     *  <p>The tasks that are already submitted will still be executed; if
+     *  they do not complete within the given timeout, the threads will be
+     *  interrupted. A new shared executor is created when it is needed
+     *  again, so this method is intended to be called on application
+     *  shutdown, after the configuration beans were
+     *  {@linkplain #close(Duration) closed}. An executor that was set with
+     *  {@link #setDefaultExecutor(Executor)}
+     *  or
+     *  {@link #setExecutor(Executor)}
+     *  is not affected.</p>
+     *
+     *  @param  timeout The maximum time to wait for the termination.
+     *  @return {@true} if the shared executor terminated, or if there was
+     *      none, {@false} if the timeout elapsed before.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting.
+     *
+     *  @since 0.25.13
+     */
+    @API( status = STABLE, since = "0.25.13" )
+    public static final boolean shutdownSharedExecutor( final Duration timeout ) throws InterruptedException
+    {
+        requireNonNullArgument( timeout, "timeout" );
+
+        final ExecutorService executor;
+        try( @SuppressWarnings( "unused" ) final var ignored = m_SharedExecutorLock.lock() )
+        {
+            executor = m_SharedExecutor;
+            m_SharedExecutor = null;
+        }
+
+        var retValue = true;
+        if( nonNull( executor ) )
+        {
+            executor.shutdown();
+            retValue = executor.awaitTermination( timeout.toNanos(), NANOSECONDS );
+            if( !retValue ) executor.shutdownNow();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  shutdownSharedExecutor()
 }
 //  class ConfigChangeListenerSupport
 
@@ -0,0 +1,122 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigBeanSpec;
+import org.tquadrat.foundation.config.ConfigurationChangeListener;
+
+/**
+ *  <p>{@summary The SPI for the collection of metrics about the delivery of
+ *  configuration change events by
+ *  {@link ConfigChangeListenerSupport}.}</p>
+ *  <p>A notification is either a single event, or the events of a
+ *  {@linkplain ConfigChangeListenerSupport#beginBulkUpdate() bulk update}.
+ *  Each notification that is
+ *  {@linkplain #notificationQueued(ConfigurationChangeListener, int) queued}
+ *  will be reported later either as
+ *  {@linkplain #notificationDelivered(ConfigurationChangeListener, long) delivered},
+ *  as
+ *  {@linkplain #notificationFailed(ConfigurationChangeListener, long, Throwable) failed},
+ *  or as
+ *  {@linkplain #notificationDiscarded(ConfigurationChangeListener, int) discarded}.</p>
+ *  <p>The methods are called by the threads that fire the events and by
+ *  the threads that notify the listeners, partly while holding internal
+ *  locks; implementations have to be thread-safe, and they must return
+ *  quickly, without blocking. All methods have empty default
+ *  implementations.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see ConfigChangeListenerSupport#setMetrics(ConfigChangeMetrics)
+ *  @see ConfigChangeStatistics
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public interface ConfigChangeMetrics
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The implementation that does not collect any metrics. When this is
+     *  used, the delivery of the events is not timed at all.
+     */
+    public static final ConfigChangeMetrics NO_METRICS = new ConfigChangeMetrics() { /* Empty */ };
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  An event was fired.
+     *
+     *  @param  owner   The configuration bean.
+     *  @param  propertyName    The name of the modified property.
+     */
+    public default void eventFired( final ConfigBeanSpec owner, final String propertyName ) { /* Does nothing */ }
+
+    /**
+     *  The listener was notified successfully.
+     *
+     *  @param  listener    The listener.
+     *  @param  durationNanos   The time the listener took, in nanoseconds.
+     */
+    public default void notificationDelivered( final ConfigurationChangeListener listener, final long durationNanos ) { /* Does nothing */ }
+
+    /**
+     *  A queued notification was discarded because the mailbox of the
+     *  listener was full.
+     *
+     *  @param  listener    The listener.
+     *  @param  eventCount  The number of events in the notification.
+     */
+    public default void notificationDiscarded( final ConfigurationChangeListener listener, final int eventCount ) { /* Does nothing */ }
+
+    /**
+     *  The listener threw an exception.
+     *
+     *  @param  listener    The listener.
+     *  @param  durationNanos   The time the listener took, in nanoseconds.
+     *  @param  cause   The exception.
+     */
+    public default void notificationFailed( final ConfigurationChangeListener listener, final long durationNanos, final Throwable cause ) { /* Does nothing */ }
+
+    /**
+     *  A notification for the listener was queued.
+     *
+     *  @param  listener    The listener.
+     *  @param  mailboxSize The number of notifications in the mailbox of
+     *      the listener, including the new one; 0 if the notification was
+     *      handed directly to the executor, or if it is delivered
+     *      synchronously.
+     */
+    public default void notificationQueued( final ConfigurationChangeListener listener, final int mailboxSize ) { /* Does nothing */ }
+}
+//  interface ConfigChangeMetrics
+
+/*
+ *  End of File
+ */
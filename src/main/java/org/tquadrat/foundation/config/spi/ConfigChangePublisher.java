@@ -0,0 +1,209 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.config.DispatchMode.SYNCHRONOUS;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigurationChangeEvent;
+import org.tquadrat.foundation.config.ConfigurationChangeListener;
+
+/**
+ *  <p>{@summary Publishes the
+ *  {@linkplain ConfigurationChangeEvent configuration change events}
+ *  of a configuration bean as a
+ *  {@link java.util.concurrent.Flow.Publisher}.}</p>
+ *  <p>The events are delivered to the subscribers on demand, as requested
+ *  through
+ *  {@link java.util.concurrent.Flow.Subscription#request(long)}.
+ *  Each subscriber has its own buffer, so a slow subscriber does not delay
+ *  the others. When the buffer of a subscriber is full, new events for that
+ *  subscriber are dropped, as the thread that modifies the configuration
+ *  bean must not be blocked; the number of dropped events can be retrieved
+ *  with
+ *  {@link #getDroppedEventCount()}.</p>
+ *  <p>The publisher registers itself with the given
+ *  {@link ConfigChangeListenerSupport}
+ *  on construction, and removes itself on
+ *  {@linkplain #close() close}.
+ *  Closing the publisher completes all subscriptions.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public final class ConfigChangePublisher implements Flow.Publisher<ConfigurationChangeEvent>, AutoCloseable
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of events that were dropped because the buffer of a
+     *  subscriber was full.
+     */
+    private final LongAdder m_DroppedEvents = new LongAdder();
+
+    /**
+     *  The listener that feeds the publisher; the reference is required as
+     *  {@link ConfigChangeListenerSupport}
+     *  holds its listeners only weakly.
+     */
+    private final ConfigurationChangeListener m_Listener;
+
+    /**
+     *  The listener support.
+     */
+    private final ConfigChangeListenerSupport m_ListenerSupport;
+
+    /**
+     *  The publisher.
+     */
+    private final SubmissionPublisher<ConfigurationChangeEvent> m_Publisher;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ConfigChangePublisher} instance that delivers
+     *  the events through the
+     *  {@linkplain ConfigChangeListenerSupport#getExecutor() executor}
+     *  of the given listener support, with buffers of
+     *  {@link Flow#defaultBufferSize()}
+     *  events.
+     *
+     *  @param  listenerSupport The listener support of the configuration
+     *      bean.
+     */
+    public ConfigChangePublisher( final ConfigChangeListenerSupport listenerSupport )
+    {
+        this( listenerSupport, requireNonNullArgument( listenerSupport, "listenerSupport" ).getExecutor(), Flow.defaultBufferSize() );
+    }   //  ConfigChangePublisher()
+
+    /**
+     *  Creates a new {@code ConfigChangePublisher} instance.
+     *
+     *  @param  listenerSupport The listener support of the configuration
+     *      bean.
+     *  @param  executor    The executor that is used to deliver the events
+     *      to the subscribers.
+     *  @param  maxBufferCapacity   The maximum capacity of the buffer for
+     *      each subscriber; the effective capacity may be rounded up to the
+     *      nearest power of two.
+     *  @throws IllegalArgumentException    The buffer capacity is not
+     *      positive.
+     */
+    public ConfigChangePublisher( final ConfigChangeListenerSupport listenerSupport, final Executor executor, final int maxBufferCapacity ) throws IllegalArgumentException
+    {
+        m_ListenerSupport = requireNonNullArgument( listenerSupport, "listenerSupport" );
+        m_Publisher = new SubmissionPublisher<>( requireNonNullArgument( executor, "executor" ), maxBufferCapacity );
+        m_Listener = this::publish;
+        m_ListenerSupport.addListener( m_Listener, SYNCHRONOUS );
+    }   //  ConfigChangePublisher()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Removes this publisher from the listener support and completes all
+     *  subscriptions. Events that are already buffered will still be
+     *  delivered.
+     */
+    @Override
+    public final void close()
+    {
+        m_ListenerSupport.removeListener( m_Listener );
+        m_Publisher.close();
+    }   //  close()
+
+    /**
+     *  Returns the number of events that were dropped because the buffer of
+     *  a subscriber was full. An event that was dropped for several
+     *  subscribers is counted for each of them.
+     *
+     *  @return The number of dropped events.
+     */
+    public final long getDroppedEventCount() { return m_DroppedEvents.sum(); }
+
+    /**
+     *  Returns the current number of subscribers.
+     *
+     *  @return The number of subscribers.
+     */
+    public final int getSubscriberCount() { return m_Publisher.getNumberOfSubscribers(); }
+
+    /**
+     *  Returns the flag that indicates whether this publisher was closed.
+     *
+     *  @return {@true} if the publisher was closed, {@false} otherwise.
+     */
+    public final boolean isClosed() { return m_Publisher.isClosed(); }
+
+    /**
+     *  Offers the given event to all subscribers, without blocking.
+     *
+     *  @param  event   The event.
+     */
+    private final void publish( final ConfigurationChangeEvent event )
+    {
+        try
+        {
+            if( !m_Publisher.isClosed() )
+            {
+                m_Publisher.offer( event, ( _, _ ) ->
+                {
+                    m_DroppedEvents.increment();
+                    return false;
+                } );
+            }
+        }
+        catch( final IllegalStateException _ )
+        {
+            /*
+             * The publisher was closed after the check; the event can be
+             * discarded silently.
+             */
+        }
+    }   //  publish()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void subscribe( final Flow.Subscriber<? super ConfigurationChangeEvent> subscriber )
+    {
+        m_Publisher.subscribe( requireNonNullArgument( subscriber, "subscriber" ) );
+    }   //  subscribe()
+}
+//  class ConfigChangePublisher
+
+/*
+ *  End of File
+ */
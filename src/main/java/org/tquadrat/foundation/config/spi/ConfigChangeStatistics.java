@@ -0,0 +1,415 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigBeanSpec;
+import org.tquadrat.foundation.config.ConfigurationChangeListener;
+
+/**
+ *  <p>{@summary An implementation of
+ *  {@link ConfigChangeMetrics}
+ *  that keeps counters and a histogram of the execution times of the
+ *  listeners.}</p>
+ *  <p>The statistics can be exposed through JMX, using
+ *  {@link #registerMBean(String)}.</p>
+ *  <p>If a time budget is set, each notification that takes longer is
+ *  counted as <i>slow</i>, and the class of the listener is added to the
+ *  {@linkplain #getSlowListeners() slow listeners};
+ *  the first time a listener class exceeds the budget, a warning is
+ *  written to the
+ *  {@link System.Logger}
+ *  for this class.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see ConfigChangeListenerSupport#setDefaultMetrics(ConfigChangeMetrics)
+ *  @see ConfigChangeListenerSupport#setMetrics(ConfigChangeMetrics)
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public final class ConfigChangeStatistics implements ConfigChangeMetrics, ConfigChangeStatisticsMXBean
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of buckets for the histogram of the execution times.
+     */
+    public static final int HISTOGRAM_SIZE = 32;
+
+    /**
+     *  The domain for the JMX object names.
+     */
+    public static final String JMX_DOMAIN = "org.tquadrat.foundation.config";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of fired events.
+     */
+    private final LongAdder m_EventsFired = new LongAdder();
+
+    /**
+     *  The histogram of the execution times.
+     */
+    private final AtomicLongArray m_ExecutionTimeHistogram = new AtomicLongArray( HISTOGRAM_SIZE );
+
+    /**
+     *  The accumulated execution times per listener class.
+     */
+    private final Map<String,LongAdder> m_ListenerExecutionTimes = new ConcurrentHashMap<>();
+
+    /**
+     *  The maximum execution time.
+     */
+    private final LongAccumulator m_MaxExecutionTime = new LongAccumulator( Math::max, 0L );
+
+    /**
+     *  The maximum queue depth.
+     */
+    private final LongAccumulator m_MaxQueueDepth = new LongAccumulator( Math::max, 0L );
+
+    /**
+     *  The number of delivered notifications.
+     */
+    private final LongAdder m_NotificationsDelivered = new LongAdder();
+
+    /**
+     *  The number of discarded notifications.
+     */
+    private final LongAdder m_NotificationsDiscarded = new LongAdder();
+
+    /**
+     *  The number of failed notifications.
+     */
+    private final LongAdder m_NotificationsFailed = new LongAdder();
+
+    /**
+     *  The number of queued notifications.
+     */
+    private final LongAdder m_NotificationsQueued = new LongAdder();
+
+    /**
+     *  The class names of the slow listeners.
+     */
+    private final Set<String> m_SlowListeners = ConcurrentHashMap.newKeySet();
+
+    /**
+     *  The number of slow notifications.
+     */
+    private final LongAdder m_SlowNotifications = new LongAdder();
+
+    /**
+     *  The time budget for a listener in nanoseconds; 0 if slow listeners
+     *  are not detected.
+     */
+    private volatile long m_TimeBudget = 0L;
+
+    /**
+     *  The accumulated execution times.
+     */
+    private final LongAdder m_TotalExecutionTime = new LongAdder();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ConfigChangeStatistics} instance that does not
+     *  detect slow listeners.
+     */
+    public ConfigChangeStatistics() { this( 0L ); }
+
+    /**
+     *  Creates a new {@code ConfigChangeStatistics} instance.
+     *
+     *  @param  timeBudget  The time budget for a listener, in milliseconds;
+     *      0 if slow listeners should not be detected.
+     */
+    public ConfigChangeStatistics( final long timeBudget )
+    {
+        setTimeBudgetMillis( timeBudget );
+    }   //  ConfigChangeStatistics()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void eventFired( final ConfigBeanSpec owner, final String propertyName ) { m_EventsFired.increment(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getAverageExecutionTimeNanos()
+    {
+        final var count = m_NotificationsDelivered.sum() + m_NotificationsFailed.sum();
+        final var retValue = count == 0 ? 0L : m_TotalExecutionTime.sum() / count;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getAverageExecutionTimeNanos()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getEventsFired() { return m_EventsFired.sum(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long [] getExecutionTimeHistogram()
+    {
+        final var retValue = new long [HISTOGRAM_SIZE];
+        for( var i = 0; i < HISTOGRAM_SIZE; ++i ) retValue [i] = m_ExecutionTimeHistogram.get( i );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getExecutionTimeHistogram()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Map<String,Long> getListenerExecutionTimes()
+    {
+        final Map<String,Long> retValue = new TreeMap<>();
+        m_ListenerExecutionTimes.forEach( (k,v) -> retValue.put( k, v.sum() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getListenerExecutionTimes()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getMaxExecutionTimeNanos() { return m_MaxExecutionTime.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getMaxQueueDepth() { return m_MaxQueueDepth.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getNotificationsDelivered() { return m_NotificationsDelivered.sum(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getNotificationsDiscarded() { return m_NotificationsDiscarded.sum(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getNotificationsFailed() { return m_NotificationsFailed.sum(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getNotificationsInFlight()
+    {
+        final var retValue = Math.max( 0L, m_NotificationsQueued.sum() - m_NotificationsDelivered.sum() - m_NotificationsFailed.sum() - m_NotificationsDiscarded.sum() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getNotificationsInFlight()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getNotificationsQueued() { return m_NotificationsQueued.sum(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Set<String> getSlowListeners() { return new TreeSet<>( m_SlowListeners ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getSlowNotifications() { return m_SlowNotifications.sum(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final long getTimeBudgetMillis() { return NANOSECONDS.toMillis( m_TimeBudget ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void notificationDelivered( final ConfigurationChangeListener listener, final long durationNanos )
+    {
+        m_NotificationsDelivered.increment();
+        recordExecutionTime( listener, durationNanos );
+    }   //  notificationDelivered()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void notificationDiscarded( final ConfigurationChangeListener listener, final int eventCount ) { m_NotificationsDiscarded.increment(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void notificationFailed( final ConfigurationChangeListener listener, final long durationNanos, final Throwable cause )
+    {
+        m_NotificationsFailed.increment();
+        recordExecutionTime( listener, durationNanos );
+    }   //  notificationFailed()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void notificationQueued( final ConfigurationChangeListener listener, final int mailboxSize )
+    {
+        m_NotificationsQueued.increment();
+        m_MaxQueueDepth.accumulate( mailboxSize );
+    }   //  notificationQueued()
+
+    /**
+     *  Records the execution time for a notification.
+     *
+     *  @param  listener    The listener.
+     *  @param  durationNanos   The execution time in nanoseconds.
+     */
+    private final void recordExecutionTime( final ConfigurationChangeListener listener, final long durationNanos )
+    {
+        m_TotalExecutionTime.add( durationNanos );
+        m_MaxExecutionTime.accumulate( durationNanos );
+
+        final var micros = NANOSECONDS.toMicros( durationNanos );
+        final var bucket = Math.min( HISTOGRAM_SIZE - 1, Long.SIZE - Long.numberOfLeadingZeros( micros ) );
+        m_ExecutionTimeHistogram.incrementAndGet( bucket );
+
+        final var listenerName = listener.getClass().getName();
+        m_ListenerExecutionTimes.computeIfAbsent( listenerName, _ -> new LongAdder() ).add( durationNanos );
+
+        final var timeBudget = m_TimeBudget;
+        if( (timeBudget > 0) && (durationNanos > timeBudget) )
+        {
+            m_SlowNotifications.increment();
+            if( m_SlowListeners.add( listenerName ) )
+            {
+                System.getLogger( ConfigChangeStatistics.class.getName() ).log( WARNING, "Listener %s took %d ms, exceeding the time budget of %d ms".formatted( listenerName, NANOSECONDS.toMillis( durationNanos ), NANOSECONDS.toMillis( timeBudget ) ) );
+            }
+        }
+    }   //  recordExecutionTime()
+
+    /**
+     *  Registers this instance with the platform MBean server.
+     *
+     *  @param  name    The value for the {@code name} key of the object
+     *      name.
+     *  @return The object name.
+     *  @throws JMException The registration failed.
+     */
+    public final ObjectName registerMBean( final String name ) throws JMException
+    {
+        final var retValue = new ObjectName( "%s:type=ConfigChangeStatistics,name=%s".formatted( JMX_DOMAIN, ObjectName.quote( requireNotEmptyArgument( name, "name" ) ) ) );
+        ManagementFactory.getPlatformMBeanServer().registerMBean( this, retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  registerMBean()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void reset()
+    {
+        m_EventsFired.reset();
+        for( var i = 0; i < HISTOGRAM_SIZE; ++i ) m_ExecutionTimeHistogram.set( i, 0L );
+        m_ListenerExecutionTimes.clear();
+        m_MaxExecutionTime.reset();
+        m_MaxQueueDepth.reset();
+        m_NotificationsDelivered.reset();
+        m_NotificationsDiscarded.reset();
+        m_NotificationsFailed.reset();
+        m_NotificationsQueued.reset();
+        m_SlowListeners.clear();
+        m_SlowNotifications.reset();
+        m_TotalExecutionTime.reset();
+    }   //  reset()
+
+    /**
+     *  {@inheritDoc}
+     *
+     *  @throws IllegalArgumentException    The time budget is negative.
+     */
+    @Override
+    public final void setTimeBudgetMillis( final long timeBudget ) throws IllegalArgumentException
+    {
+        if( timeBudget < 0 )
+        {
+            throw new IllegalArgumentException( "The time budget must not be negative: %d".formatted( timeBudget ) );
+        }
+        m_TimeBudget = MILLISECONDS.toNanos( timeBudget );
+    }   //  setTimeBudgetMillis()
+}
+//  class ConfigChangeStatistics
+
+/*
+ *  End of File
+ */
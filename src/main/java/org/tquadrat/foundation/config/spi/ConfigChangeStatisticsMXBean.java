@@ -0,0 +1,175 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  The management interface for
+ *  {@link ConfigChangeStatistics}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public interface ConfigChangeStatisticsMXBean
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the average time the listeners took, in nanoseconds.
+     *
+     *  @return The average execution time; 0 if no notification was
+     *      delivered yet.
+     */
+    public long getAverageExecutionTimeNanos();
+
+    /**
+     *  Returns the number of fired events.
+     *
+     *  @return The number of events.
+     */
+    public long getEventsFired();
+
+    /**
+     *  <p>{@summary Returns the histogram for the execution times of the
+     *  listeners.}</p>
+     *  <p>The element at index 0 holds the number of notifications that
+     *  took less than one microsecond; the element at index <i>n</i> holds
+     *  the number of notifications that took at least
+     *  2<sup><i>n</i>-1</sup> and less than 2<sup><i>n</i></sup>
+     *  microseconds. The last element holds all longer ones.</p>
+     *
+     *  @return The histogram.
+     */
+    public long [] getExecutionTimeHistogram();
+
+    /**
+     *  Returns the accumulated execution times per listener class, in
+     *  nanoseconds.
+     *
+     *  @return The execution times.
+     */
+    public Map<String,Long> getListenerExecutionTimes();
+
+    /**
+     *  Returns the longest time a listener took, in nanoseconds.
+     *
+     *  @return The maximum execution time.
+     */
+    public long getMaxExecutionTimeNanos();
+
+    /**
+     *  Returns the highest number of pending notifications that was
+     *  observed in the mailbox of a listener.
+     *
+     *  @return The maximum queue depth.
+     */
+    public long getMaxQueueDepth();
+
+    /**
+     *  Returns the number of notifications that were delivered
+     *  successfully.
+     *
+     *  @return The number of notifications.
+     */
+    public long getNotificationsDelivered();
+
+    /**
+     *  Returns the number of queued notifications that were discarded
+     *  because the mailbox of the listener was full.
+     *
+     *  @return The number of notifications.
+     */
+    public long getNotificationsDiscarded();
+
+    /**
+     *  Returns the number of notifications for which the listener threw an
+     *  exception.
+     *
+     *  @return The number of notifications.
+     */
+    public long getNotificationsFailed();
+
+    /**
+     *  Returns the number of notifications that are queued, but not yet
+     *  completed.
+     *
+     *  @return The number of notifications.
+     */
+    public long getNotificationsInFlight();
+
+    /**
+     *  Returns the number of notifications that were queued.
+     *
+     *  @return The number of notifications.
+     */
+    public long getNotificationsQueued();
+
+    /**
+     *  Returns the names of the classes of the listeners that exceeded the
+     *  time budget at least once.
+     *
+     *  @return The class names.
+     */
+    public Set<String> getSlowListeners();
+
+    /**
+     *  Returns the number of notifications that exceeded the time budget.
+     *
+     *  @return The number of notifications.
+     */
+    public long getSlowNotifications();
+
+    /**
+     *  Returns the time budget for a listener, in milliseconds.
+     *
+     *  @return The time budget; 0 if slow listeners are not detected.
+     */
+    public long getTimeBudgetMillis();
+
+    /**
+     *  Resets all counters.
+     */
+    public void reset();
+
+    /**
+     *  Sets the time budget for a listener, in milliseconds.
+     *
+     *  @param  timeBudget  The time budget; 0 to disable the detection of
+     *      slow listeners.
+     */
+    public void setTimeBudgetMillis( final long timeBudget );
+}
+//  interface ConfigChangeStatisticsMXBean
+
+/*
+ *  End of File
+ */
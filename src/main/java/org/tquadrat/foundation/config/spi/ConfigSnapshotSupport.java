@@ -0,0 +1,273 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.PropertyName;
+import org.tquadrat.foundation.config.ConfigBeanSpec;
+import org.tquadrat.foundation.config.ConfigurationSnapshot;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.AutoLock;
+
+/**
+ *  <p>{@summary Provides support for the snapshots of the configuration
+ *  beans.}</p>
+ *  <p>The current snapshot is published through a single {@code volatile}
+ *  reference; reading it does not require any lock. Each modification of a
+ *  property creates a new snapshot (copy-on-write). A configuration bean
+ *  should call
+ *  {@link #update(String, Object)}
+ *  while it still holds the lock that guards the modified property, so that
+ *  the snapshot is always consistent with the state of the bean.</p>
+ *  <p>Each new snapshot is built with a single copy of the previous
+ *  values.</p>
+ *  <p>Configuration beans that do not maintain an instance of this class
+ *  get their snapshot from
+ *  {@link #createSnapshot(ConfigBeanSpec)}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @see ConfigBeanSpec#getSnapshot()
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public final class ConfigSnapshotSupport
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  <p>{@summary The getters of the configuration bean classes; the name
+     *  of the property is the key.}</p>
+     *  <p>The getters of a configuration bean class are determined only
+     *  once, on the first call to
+     *  {@link #createSnapshot(ConfigBeanSpec)}
+     *  for an instance of that class.</p>
+     */
+    private static final ClassValue<Map<String,Method>> m_Getters = new ClassValue<>()
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final Map<String,Method> computeValue( final Class<?> type ) { return collectGetters( type ); }
+    };
+
+    /**
+     *  The lock that serialises the modifications of the snapshot.
+     */
+    private final AutoLock m_Lock = AutoLock.of( new ReentrantLock() );
+
+    /**
+     *  The current snapshot.
+     */
+    private volatile ConfigurationSnapshot m_Snapshot;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ConfigSnapshotSupport} instance.
+     *
+     *  @param  initialValues   The initial values of the properties; the
+     *      name of the property is the key.
+     */
+    public ConfigSnapshotSupport( final Map<String,?> initialValues )
+    {
+        m_Snapshot = new ConfigurationSnapshot( requireNonNullArgument( initialValues, "initialValues" ) );
+    }   //  ConfigSnapshotSupport()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Determines the getters of the given configuration bean
+     *  class.}</p>
+     *  <p>A getter is a public, non-static method without arguments whose
+     *  name starts with &quot;get&quot; or &quot;is&quot;, declared by an
+     *  interface that extends
+     *  {@link ConfigBeanSpec}.</p>
+     *
+     *  @param  beanClass   The configuration bean class.
+     *  @return The getters; the name of the property is the key.
+     */
+    private static final Map<String,Method> collectGetters( final Class<?> beanClass )
+    {
+        final Map<String,Method> getters = new HashMap<>();
+        for( Class<?> currentClass = beanClass; nonNull( currentClass ); currentClass = currentClass.getSuperclass() )
+        {
+            for( final var specification : currentClass.getInterfaces() )
+            {
+                if( ConfigBeanSpec.class.isAssignableFrom( specification ) )
+                {
+                    for( final var method : specification.getMethods() )
+                    {
+                        if( isGetter( method ) ) getters.putIfAbsent( retrievePropertyName( method ), method );
+                    }
+                }
+            }
+        }
+        final var retValue = Map.copyOf( getters );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  collectGetters()
+
+    /**
+     *  <p>{@summary Creates a snapshot for the given configuration bean by
+     *  calling all its getters.}</p>
+     *  <p>This is the implementation of
+     *  {@link ConfigBeanSpec#getSnapshot()}
+     *  for configuration beans that do not maintain an instance of
+     *  {@code ConfigSnapshotSupport}. The getters are determined only once
+     *  per configuration bean class, but they are called one after the
+     *  other, so the result is not guaranteed to be consistent if the
+     *  configuration bean is modified concurrently.</p>
+     *  <p>The property name is taken from the
+     *  {@link PropertyName &#64;PropertyName}
+     *  annotation of the getter, if present, otherwise it is derived from the
+     *  name of the getter.</p>
+     *
+     *  @param  bean    The configuration bean.
+     *  @return The snapshot.
+     *  @throws ValidationException A getter could not be called.
+     */
+    public static final ConfigurationSnapshot createSnapshot( final ConfigBeanSpec bean ) throws ValidationException
+    {
+        final var getters = m_Getters.get( requireNonNullArgument( bean, "bean" ).getClass() );
+        final Map<String,Object> values = new HashMap<>();
+        for( final var entry : getters.entrySet() )
+        {
+            try
+            {
+                values.put( entry.getKey(), entry.getValue().invoke( bean ) );
+            }
+            catch( final IllegalAccessException | InvocationTargetException e )
+            {
+                throw new ValidationException( "Cannot read property '%s' from configuration bean %s".formatted( entry.getKey(), bean.getClass().getName() ), e );
+            }
+        }
+        final var retValue = new ConfigurationSnapshot( values );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createSnapshot()
+
+    /**
+     *  Returns the current snapshot.
+     *
+     *  @return The snapshot.
+     */
+    public final ConfigurationSnapshot getSnapshot() { return m_Snapshot; }
+
+    /**
+     *  Checks whether the given method is a getter for a property of a
+     *  configuration bean.
+     *
+     *  @param  method  The method.
+     *  @return {@true} if the method is a getter, {@false} otherwise.
+     */
+    private static final boolean isGetter( final Method method )
+    {
+        final var name = method.getName();
+        final var retValue = !isStatic( method.getModifiers() )
+            && (method.getParameterCount() == 0)
+            && (method.getReturnType() != void.class)
+            && !"getSnapshot".equals( name )
+            && ((name.startsWith( "get" ) && (name.length() > 3)) || (name.startsWith( "is" ) && (name.length() > 2)));
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isGetter()
+
+    /**
+     *  Determines the name of the property for the given getter.
+     *
+     *  @param  method  The getter.
+     *  @return The name of the property.
+     */
+    private static final String retrievePropertyName( final Method method )
+    {
+        final var annotation = method.getAnnotation( PropertyName.class );
+        final String retValue;
+        if( nonNull( annotation ) )
+        {
+            retValue = annotation.value();
+        }
+        else
+        {
+            final var name = method.getName();
+            final var propertyName = name.substring( name.startsWith( "is" ) ? 2 : 3 );
+            retValue = toLowerCase( propertyName.charAt( 0 ) ) + propertyName.substring( 1 );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrievePropertyName()
+
+    /**
+     *  Replaces the values of the given properties in the snapshot.
+     *
+     *  @param  values  The new values; the name of the property is the key.
+     */
+    public final void update( final Map<String,?> values )
+    {
+        requireNonNullArgument( values, "values" );
+        try( @SuppressWarnings( "unused" ) final var ignored = m_Lock.lock() )
+        {
+            m_Snapshot = m_Snapshot.with( values );
+        }
+    }   //  update()
+
+    /**
+     *  Replaces the value of the given property in the snapshot.
+     *
+     *  @param  propertyName    The name of the property.
+     *  @param  value   The new value; can be {@null}.
+     */
+    public final void update( final String propertyName, final Object value )
+    {
+        try( @SuppressWarnings( "unused" ) final var ignored = m_Lock.lock() )
+        {
+            m_Snapshot = m_Snapshot.with( propertyName, value );
+        }
+    }   //  update()
+}
+//  class ConfigSnapshotSupport
+
+/*
+ *  End of File
+ */
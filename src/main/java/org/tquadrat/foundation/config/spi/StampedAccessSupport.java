@@ -0,0 +1,263 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary Provides guarded access to the properties of a configuration
+ *  bean, based on a
+ *  {@link StampedLock}.}</p>
+ *  <p>The {@code read…()} methods first execute the given reader without
+ *  any lock (an <i>optimistic read</i>), and validate afterwards that no
+ *  write took place in the meantime. Only if that validation fails, the
+ *  reader is executed again while holding the read lock. As long as there
+ *  are no concurrent writes, reading a property does not modify any shared
+ *  state, so readers do not contend with each other.</p>
+ *  <p>Because the optimistic read runs concurrently with writes, a reader
+ *  must be free of side effects, and it must not fail when it sees
+ *  inconsistent values; usually it just returns the value of one or more
+ *  fields. Its result is discarded when the validation fails.</p>
+ *  <p>The lock is not reentrant: a writer must not call any of the
+ *  {@code read…()}, {@code write()} or {@code exchange()} methods of the
+ *  same instance.</p>
+ *  <p>A getter and a setter of a configuration bean that uses this class
+ *  look like this:</p>
+ *  <blockquote><div class="source-container"><pre>public final String getName() { return m_AccessSupport.read( () -&gt; m_Name ); }
+ *
+ *public final void setName( final String name )
+ *{
+ *    final var oldValue = m_AccessSupport.exchange( () -&gt;
+ *    {
+ *        final var previous = m_Name;
+ *        m_Name = name;
+ *        return previous;
+ *    } );
+ *    m_ListenerSupport.fireEvent( "name", oldValue, name );
+ *}</pre></div></blockquote>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.25.13
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.25.13" )
+public final class StampedAccessSupport
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The lock.
+     */
+    private final StampedLock m_Lock = new StampedLock();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code StampedAccessSupport} instance.
+     */
+    public StampedAccessSupport() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Executes the given writer while holding the write lock, and returns
+     *  its result. Usually, the result is the previous value of the modified
+     *  property, as it is required for the notification of the listeners.
+     *
+     *  @param  <T> The type of the result.
+     *  @param  writer  The writer.
+     *  @return The result of the writer.
+     */
+    public final <T> T exchange( final Supplier<? extends T> writer )
+    {
+        requireNonNullArgument( writer, "writer" );
+
+        final T retValue;
+        final var stamp = m_Lock.writeLock();
+        try
+        {
+            retValue = writer.get();
+        }
+        finally
+        {
+            m_Lock.unlockWrite( stamp );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  exchange()
+
+    /**
+     *  Reads a value.
+     *
+     *  @param  <T> The type of the value.
+     *  @param  reader  The reader for the value.
+     *  @return The value.
+     */
+    public final <T> T read( final Supplier<? extends T> reader )
+    {
+        requireNonNullArgument( reader, "reader" );
+
+        var stamp = m_Lock.tryOptimisticRead();
+        T retValue = reader.get();
+        if( !m_Lock.validate( stamp ) )
+        {
+            stamp = m_Lock.readLock();
+            try
+            {
+                retValue = reader.get();
+            }
+            finally
+            {
+                m_Lock.unlockRead( stamp );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  read()
+
+    /**
+     *  Reads a {@code boolean} value.
+     *
+     *  @param  reader  The reader for the value.
+     *  @return The value.
+     */
+    public final boolean readBoolean( final BooleanSupplier reader )
+    {
+        requireNonNullArgument( reader, "reader" );
+
+        var stamp = m_Lock.tryOptimisticRead();
+        var retValue = reader.getAsBoolean();
+        if( !m_Lock.validate( stamp ) )
+        {
+            stamp = m_Lock.readLock();
+            try
+            {
+                retValue = reader.getAsBoolean();
+            }
+            finally
+            {
+                m_Lock.unlockRead( stamp );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  readBoolean()
+
+    /**
+     *  Reads an {@code int} value.
+     *
+     *  @param  reader  The reader for the value.
+     *  @return The value.
+     */
+    public final int readInt( final IntSupplier reader )
+    {
+        requireNonNullArgument( reader, "reader" );
+
+        var stamp = m_Lock.tryOptimisticRead();
+        var retValue = reader.getAsInt();
+        if( !m_Lock.validate( stamp ) )
+        {
+            stamp = m_Lock.readLock();
+            try
+            {
+                retValue = reader.getAsInt();
+            }
+            finally
+            {
+                m_Lock.unlockRead( stamp );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  readInt()
+
+    /**
+     *  Reads a {@code long} value.
+     *
+     *  @param  reader  The reader for the value.
+     *  @return The value.
+     */
+    public final long readLong( final LongSupplier reader )
+    {
+        requireNonNullArgument( reader, "reader" );
+
+        var stamp = m_Lock.tryOptimisticRead();
+        var retValue = reader.getAsLong();
+        if( !m_Lock.validate( stamp ) )
+        {
+            stamp = m_Lock.readLock();
+            try
+            {
+                retValue = reader.getAsLong();
+            }
+            finally
+            {
+                m_Lock.unlockRead( stamp );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  readLong()
+
+    /**
+     *  Executes the given writer while holding the write lock.
+     *
+     *  @param  writer  The writer.
+     */
+    public final void write( final Runnable writer )
+    {
+        requireNonNullArgument( writer, "writer" );
+
+        final var stamp = m_Lock.writeLock();
+        try
+        {
+            writer.run();
+        }
+        finally
+        {
+            m_Lock.unlockWrite( stamp );
+        }
+    }   //  write()
+}
+//  class StampedAccessSupport
+
+/*
+ *  End of File
+ */
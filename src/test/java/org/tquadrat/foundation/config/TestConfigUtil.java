@@ -20,27 +20,59 @@ package org.tquadrat.foundation.config;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.config.internal.TestArgumentParser;
 import org.tquadrat.foundation.config.spi.CLIDefinition;
+import org.tquadrat.foundation.config.spi.ConfigSnapshotSupport;
 import org.tquadrat.foundation.exception.EmptyArgumentException;
 import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.function.tce.TCEBiFunction;
+import org.tquadrat.foundation.function.tce.TCEFunction;
 import org.tquadrat.foundation.testutil.TestBaseClass;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static java.io.OutputStream.nullOutputStream;
 import static java.lang.String.format;
 import static java.lang.System.out;
+import static java.lang.Thread.currentThread;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.writeString;
 import static java.util.Locale.ENGLISH;
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.tquadrat.foundation.config.ConfigUtil.dropConfiguration;
+import static org.tquadrat.foundation.config.ConfigUtil.dropSessionConfigurations;
+import static org.tquadrat.foundation.config.ConfigUtil.getConfiguration;
+import static org.tquadrat.foundation.config.ConfigUtil.getConfigurationAsync;
 import static org.tquadrat.foundation.config.ConfigUtil.parseCommandLine;
+import static org.tquadrat.foundation.config.ConfigUtil.preload;
 import static org.tquadrat.foundation.config.ConfigUtil.printUsage;
+import static org.tquadrat.foundation.config.ConfigUtil.setConstructionExecutor;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_String_ARRAY;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 
 /**
  *  Tests for
@@ -53,6 +85,407 @@ import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_String_ARRAY;
 @DisplayName( "org.tquadrat.foundation.config.TestConfigUtil" )
 public class TestConfigUtil extends TestBaseClass
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The base class for the configuration beans used by the tests.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public abstract static class BeanBase implements ConfigBeanSpec
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The support for the snapshot.
+         */
+        private final ConfigSnapshotSupport m_SnapshotSupport = new ConfigSnapshotSupport( Map.of() );
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void addListener( final ConfigurationChangeListener listener ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void addListener( final ConfigurationChangeListener listener, final Predicate<String> filter ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void addListener( final ConfigurationChangeListener listener, final Set<String> propertyNames ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Charset getCharset() { return Charset.defaultCharset(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Locale getLocale() { return Locale.getDefault(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Optional<ResourceBundle> getResourceBundle() { return Optional.empty(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final ConfigurationSnapshot getSnapshot() { return m_SnapshotSupport.getSnapshot(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final ZoneId getTimezone() { return ZoneId.systemDefault(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean isDebug() { return false; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean isTest() { return true; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void removeListener( final ConfigurationChangeListener listener ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void setCharset( final Charset charset ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void setLocale( final Locale locale ) { /* Does nothing */ }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void setTimezone( final ZoneId timezone ) { /* Does nothing */ }
+    }
+    //  class BeanBase
+
+    /**
+     *  The specification for the configuration bean that is created
+     *  asynchronously.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$AsyncBean", samePackage = true )
+    public static interface AsyncSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The configuration bean that is created asynchronously.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class AsyncBean extends BeanBase implements AsyncSpec
+    {
+        /**
+         *  Creates a new {@code AsyncBean} instance.
+         */
+        public AsyncBean() { /* Just exists */ }
+    }
+    //  class AsyncBean
+
+    /**
+     *  The specification for the session configuration bean that is created
+     *  asynchronously.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$AsyncSessionBean", samePackage = true )
+    public static interface AsyncSessionSpec extends SessionBeanSpec { /* Empty */ }
+
+    /**
+     *  The session configuration bean that is created asynchronously.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class AsyncSessionBean extends BeanBase implements AsyncSessionSpec
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The session key.
+         */
+        private final String m_SessionKey;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code AsyncSessionBean} instance.
+         *
+         *  @param  sessionKey  The session key.
+         */
+        public AsyncSessionBean( final String sessionKey ) { m_SessionKey = sessionKey; }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String getSessionKey() { return m_SessionKey; }
+    }
+    //  class AsyncSessionBean
+
+    /**
+     *  The specification for the configuration bean that is requested
+     *  concurrently.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$ContendedBean", samePackage = true )
+    public static interface ContendedSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The configuration bean that is requested concurrently.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class ContendedBean extends BeanBase implements ContendedSpec
+    {
+        /**
+         *  Creates a new {@code ContendedBean} instance.
+         */
+        public ContendedBean() { /* Just exists */ }
+    }
+    //  class ContendedBean
+
+    /**
+     *  The specification for another configuration bean that is preloaded.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$EagerBean", samePackage = true )
+    public static interface EagerSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  Another configuration bean that is preloaded.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class EagerBean extends BeanBase implements EagerSpec
+    {
+        /**
+         *  Creates a new {@code EagerBean} instance.
+         */
+        public EagerBean() { /* Just exists */ }
+    }
+    //  class EagerBean
+
+    /**
+     *  The specification for the configuration bean that cannot be
+     *  created.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$FailingBean", samePackage = true )
+    public static interface FailingSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The configuration bean that cannot be created.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class FailingBean extends BeanBase implements FailingSpec
+    {
+        /**
+         *  Creates a new {@code FailingBean} instance.
+         */
+        public FailingBean() { throw new IllegalStateException( "FailingBean" ); }
+    }
+    //  class FailingBean
+
+    /**
+     *  The specification for the configuration bean that cannot be
+     *  created, either.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$FaultyBean", samePackage = true )
+    public static interface FaultySpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The configuration bean that cannot be created, either.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class FaultyBean extends BeanBase implements FaultySpec
+    {
+        /**
+         *  Creates a new {@code FaultyBean} instance.
+         */
+        public FaultyBean() { throw new IllegalStateException( "FaultyBean" ); }
+    }
+    //  class FaultyBean
+
+    /**
+     *  The specification for the session configuration bean that is created
+     *  through a
+     *  {@link java.lang.invoke.MethodHandles.Lookup}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$LookupSessionBean", samePackage = true )
+    public static interface LookupSessionSpec extends SessionBeanSpec { /* Empty */ }
+
+    /**
+     *  The session configuration bean that is created through a
+     *  {@link java.lang.invoke.MethodHandles.Lookup};
+     *  the class is not public, so that only a lookup from this package has
+     *  access to it.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    static final class LookupSessionBean extends BeanBase implements LookupSessionSpec
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of created instances.
+         */
+        static final AtomicInteger m_InstanceCounter = new AtomicInteger();
+
+        /**
+         *  The session key.
+         */
+        private final String m_SessionKey;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code LookupSessionBean} instance.
+         *
+         *  @param  sessionKey  The session key.
+         */
+        public LookupSessionBean( final String sessionKey )
+        {
+            m_SessionKey = sessionKey;
+            m_InstanceCounter.incrementAndGet();
+        }   //  LookupSessionBean()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String getSessionKey() { return m_SessionKey; }
+    }
+    //  class LookupSessionBean
+
+    /**
+     *  The specification for the configuration bean that is preloaded.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$PreloadBean", samePackage = true )
+    public static interface PreloadSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The configuration bean that is preloaded.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class PreloadBean extends BeanBase implements PreloadSpec
+    {
+        /**
+         *  Creates a new {@code PreloadBean} instance.
+         */
+        public PreloadBean() { /* Just exists */ }
+    }
+    //  class PreloadBean
+
+    /**
+     *  The specification for the configuration bean that is registered
+     *  with the
+     *  {@link java.util.ServiceLoader}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @ConfigurationBeanSpecification( name = "TestConfigUtil$ServiceBean", samePackage = true )
+    public static interface ServiceSpec extends ConfigBeanSpec { /* Empty */ }
+
+    /**
+     *  The configuration bean that is registered with the
+     *  {@link java.util.ServiceLoader}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    public static final class ServiceBean extends BeanBase implements ServiceSpec
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of created instances.
+         */
+        static final AtomicInteger m_InstanceCounter = new AtomicInteger();
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code ServiceBean} instance.
+         */
+        public ServiceBean() { m_InstanceCounter.incrementAndGet(); }
+    }
+    //  class ServiceBean
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -86,6 +519,210 @@ public class TestConfigUtil extends TestBaseClass
         return TestArgumentParser.createCLIDefinitions( target );
     }   //  createCLIDefinitions()
 
+    /**
+     *  Runs the given tasks on the current thread.
+     *
+     *  @param  tasks   The tasks.
+     */
+    private static final void runTasks( final Queue<Runnable> tasks )
+    {
+        Runnable task;
+        while( nonNull( task = tasks.poll() ) ) task.run();
+    }   //  runTasks()
+
+    /**
+     *  Tests the asynchronous construction of configuration beans:
+     *  concurrent requests share one construction, a failure is reported to
+     *  all of them, and a failed construction is not kept, so that it can be
+     *  retried.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     *
+     *  @see ConfigUtil#getConfigurationAsync(Class, TCEFunction)
+     *  @see ConfigUtil#getConfigurationAsync(Class, String, TCEBiFunction)
+     */
+    @Test
+    final void testGetConfigurationAsync() throws Exception
+    {
+        skipThreadTest();
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        setConstructionExecutor( tasks::add );
+        try
+        {
+            //---* A failure is reported to all requests *---------------------
+            final var failures = new AtomicInteger();
+            final TCEFunction<Class<AsyncSpec>,AsyncSpec> failingFactory = _ ->
+            {
+                failures.incrementAndGet();
+                throw new IllegalStateException( "Construction failed" );
+            };
+            final var failed1 = getConfigurationAsync( AsyncSpec.class, failingFactory );
+            final var failed2 = getConfigurationAsync( AsyncSpec.class, failingFactory );
+            assertNotSame( failed1, failed2 );
+            assertEquals( 1, tasks.size() );
+            runTasks( tasks );
+            assertEquals( 1, failures.get() );
+            for( final var future : List.of( failed1, failed2 ) )
+            {
+                final var e = assertThrows( ExecutionException.class, () -> future.get( 5, SECONDS ) );
+                assertInstanceOf( ValidationException.class, e.getCause() );
+            }
+
+            //---* The retry starts a new construction that is shared *--------
+            final var constructions = new AtomicInteger();
+            final TCEFunction<Class<AsyncSpec>,AsyncSpec> factory = _ ->
+            {
+                constructions.incrementAndGet();
+                return new AsyncBean();
+            };
+            final var future1 = getConfigurationAsync( AsyncSpec.class, factory );
+            final var future2 = getConfigurationAsync( AsyncSpec.class, factory );
+            assertEquals( 1, tasks.size() );
+
+            //---* Cancelling one request does not affect the others *---------
+            assertTrue( future1.cancel( true ) );
+            runTasks( tasks );
+            final var bean = future2.get( 5, SECONDS );
+            assertInstanceOf( AsyncBean.class, bean );
+            assertEquals( 1, constructions.get() );
+            assertTrue( future1.isCancelled() );
+
+            //---* An existing bean is returned immediately *------------------
+            final var future3 = getConfigurationAsync( AsyncSpec.class, factory );
+            assertTrue( future3.isDone() );
+            assertTrue( tasks.isEmpty() );
+            assertSame( bean, future3.get() );
+            assertEquals( 1, constructions.get() );
+
+            //---* Session beans are constructed once per session key *--------
+            final TCEBiFunction<Class<AsyncSessionSpec>,String,AsyncSessionSpec> sessionFactory = (_, sessionKey) ->
+            {
+                constructions.incrementAndGet();
+                return new AsyncSessionBean( sessionKey );
+            };
+            final var session1 = getConfigurationAsync( AsyncSessionSpec.class, "key1", sessionFactory );
+            final var session2 = getConfigurationAsync( AsyncSessionSpec.class, "key1", sessionFactory );
+            final var session3 = getConfigurationAsync( AsyncSessionSpec.class, "key2", sessionFactory );
+            assertEquals( 2, tasks.size() );
+            runTasks( tasks );
+            assertEquals( 3, constructions.get() );
+            assertSame( session1.get( 5, SECONDS ), session2.get( 5, SECONDS ) );
+            assertEquals( "key1", session1.get().getSessionKey() );
+            assertEquals( "key2", session3.get( 5, SECONDS ).getSessionKey() );
+
+            //---* A rejected construction is not kept either *----------------
+            setConstructionExecutor( _ -> { throw new RejectedExecutionException( "Shut down" ); } );
+            final var rejected = getConfigurationAsync( AsyncSessionSpec.class, "key3", sessionFactory );
+            assertTrue( rejected.isCompletedExceptionally() );
+            setConstructionExecutor( tasks::add );
+            final var retried = getConfigurationAsync( AsyncSessionSpec.class, "key3", sessionFactory );
+            assertEquals( 1, tasks.size() );
+            runTasks( tasks );
+            assertEquals( "key3", retried.get( 5, SECONDS ).getSessionKey() );
+        }
+        finally
+        {
+            setConstructionExecutor( newVirtualThreadPerTaskExecutor() );
+            dropSessionConfigurations( AsyncSessionSpec.class );
+        }
+    }   //  testGetConfigurationAsync()
+
+    /**
+     *  Tests that a configuration bean that is requested by many threads at
+     *  once is created only once, and that all threads get the same
+     *  instance.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     *
+     *  @see ConfigUtil#getConfiguration(Class, TCEFunction)
+     */
+    @Test
+    final void testGetConfigurationContended() throws Exception
+    {
+        skipThreadTest();
+
+        final var constructions = new AtomicInteger();
+        final TCEFunction<Class<ContendedSpec>,ContendedSpec> factory = _ ->
+        {
+            constructions.incrementAndGet();
+            Thread.sleep( 50 );
+            return new ContendedBean();
+        };
+
+        final var threadCount = 16;
+        final var start = new CountDownLatch( 1 );
+        final List<Future<ContendedSpec>> results = new ArrayList<>();
+        try( final var executor = Executors.newFixedThreadPool( threadCount ) )
+        {
+            for( var i = 0; i < threadCount; ++i )
+            {
+                results.add( executor.submit( () ->
+                {
+                    start.await();
+                    return getConfiguration( ContendedSpec.class, factory );
+                } ) );
+            }
+            start.countDown();
+
+            final var bean = results.getFirst().get( 5, SECONDS );
+            assertInstanceOf( ContendedBean.class, bean );
+            for( final var result : results ) assertSame( bean, result.get( 5, SECONDS ) );
+        }
+        assertEquals( 1, constructions.get() );
+
+        //---* The hit path does not call the factory again *------------------
+        assertSame( results.getFirst().get(), getConfiguration( ContendedSpec.class, _ -> fail( "Factory called for an existing bean" ) ) );
+        assertEquals( 1, constructions.get() );
+    }   //  testGetConfigurationContended()
+
+    /**
+     *  Tests the creation of session configuration beans through a
+     *  {@link java.lang.invoke.MethodHandles.Lookup}:
+     *  the constructor is resolved once and then reused for each new bean,
+     *  but a lookup without access to the bean class cannot use the cached
+     *  constructor.
+     *
+     *  @see ConfigUtil#getConfiguration(Class, String, java.lang.invoke.MethodHandles.Lookup)
+     */
+    @Test
+    final void testGetConfigurationWithLookup()
+    {
+        skipThreadTest();
+
+        final var lookup = MethodHandles.lookup();
+        final var counter = LookupSessionBean.m_InstanceCounter;
+        final var initialCount = counter.get();
+        try
+        {
+            final var bean1 = getConfiguration( LookupSessionSpec.class, "key1", lookup );
+            assertInstanceOf( LookupSessionBean.class, bean1 );
+            assertEquals( "key1", bean1.getSessionKey() );
+            assertSame( bean1, getConfiguration( LookupSessionSpec.class, "key1", lookup ) );
+            assertEquals( initialCount + 1, counter.get() );
+
+            final var bean2 = getConfiguration( LookupSessionSpec.class, "key2", lookup );
+            assertNotSame( bean1, bean2 );
+            assertEquals( "key2", bean2.getSessionKey() );
+            assertEquals( initialCount + 2, counter.get() );
+
+            //---* A new bean after a drop uses the cached constructor *-------
+            dropConfiguration( LookupSessionSpec.class, "key1" );
+            final var bean3 = getConfiguration( LookupSessionSpec.class, "key1", lookup );
+            assertNotSame( bean1, bean3 );
+            assertEquals( initialCount + 3, counter.get() );
+
+            //---* The cached constructor does not serve a lookup without access *
+            final var e = assertThrows( ValidationException.class, () -> getConfiguration( LookupSessionSpec.class, "key3", MethodHandles.publicLookup() ) );
+            assertInstanceOf( IllegalAccessException.class, e.getCause() );
+            assertEquals( initialCount + 3, counter.get() );
+        }
+        finally
+        {
+            dropSessionConfigurations( LookupSessionSpec.class );
+        }
+    }   //  testGetConfigurationWithLookup()
+
     /**
      *  Test parsing command lines.
      *
@@ -182,6 +819,89 @@ public class TestConfigUtil extends TestBaseClass
         assertEquals( calendar.getTime().getTime(), ((Date) m_Values.get( "dateArgument" )).getTime() );
     }   //  testParseCommandLine()
 
+    /**
+     *  Tests for the method
+     *  {@link ConfigUtil#preload(Collection, MethodHandles.Lookup, Executor)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testPreload() throws Exception
+    {
+        skipThreadTest();
+
+        final var lookup = MethodHandles.lookup();
+        try( final var executor = Executors.newVirtualThreadPerTaskExecutor() )
+        {
+            //---* The failures are collected *--------------------------------
+            final var e = assertThrows( ValidationException.class, () -> preload( List.of( FailingSpec.class, PreloadSpec.class, FaultySpec.class ), lookup, executor ) );
+            assertTrue( e.getMessage().contains( FailingSpec.class.getName() ) );
+            assertInstanceOf( ValidationException.class, e.getCause() );
+            assertInstanceOf( IllegalStateException.class, e.getCause().getCause() );
+            assertEquals( "FailingBean", e.getCause().getCause().getMessage() );
+            assertEquals( 1, e.getSuppressed().length );
+            assertInstanceOf( ValidationException.class, e.getSuppressed() [0] );
+            assertEquals( "FaultyBean", e.getSuppressed() [0].getCause().getMessage() );
+
+            //---* The other beans were created nevertheless *-----------------
+            final TCEFunction<Class<PreloadSpec>,PreloadSpec> factory = _ -> fail( "The bean was not preloaded" );
+            final var bean = getConfiguration( PreloadSpec.class, factory );
+            assertInstanceOf( PreloadBean.class, bean );
+
+            //---* The timings are in the order of the specifications *--------
+            final var timings = preload( List.of( PreloadSpec.class, LookupSessionSpec.class, EagerSpec.class, PreloadSpec.class ), lookup, executor );
+            assertEquals( List.of( PreloadSpec.class, EagerSpec.class ), List.copyOf( timings.keySet() ) );
+            for( final var duration : timings.values() ) assertFalse( duration.isNegative() );
+            assertThrows( UnsupportedOperationException.class, timings::clear );
+            assertSame( bean, getConfiguration( PreloadSpec.class, factory ) );
+            final TCEFunction<Class<EagerSpec>,EagerSpec> eagerFactory = _ -> fail( "The bean was not preloaded" );
+            assertInstanceOf( EagerBean.class, getConfiguration( EagerSpec.class, eagerFactory ) );
+
+            //---* Invalid arguments *-----------------------------------------
+            assertThrows( NullArgumentException.class, () -> preload( null, lookup, executor ) );
+            assertThrows( NullArgumentException.class, () -> preload( List.of(), null, executor ) );
+            assertThrows( NullArgumentException.class, () -> preload( List.of(), lookup, null ) );
+            assertTrue( preload( List.of(), lookup, executor ).isEmpty() );
+        }
+    }   //  testPreload()
+
+    /**
+     *  Tests for the method
+     *  {@link ConfigUtil#preload(MethodHandles.Lookup, Executor)}.
+     *
+     *  @param  tempDir The folder for the service registration.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testPreloadServiceLoader( @TempDir final Path tempDir ) throws Exception
+    {
+        skipThreadTest();
+
+        //---* Register the bean class as a provider *-------------------------
+        final var services = tempDir.resolve( "META-INF" ).resolve( "services" );
+        createDirectories( services );
+        writeString( services.resolve( ConfigBeanSpec.class.getName() ), ServiceBean.class.getName() + "\n" );
+
+        final var currentThread = currentThread();
+        final var contextClassLoader = currentThread.getContextClassLoader();
+        try( final var classLoader = new URLClassLoader( new URL [] {tempDir.toUri().toURL()}, getClass().getClassLoader() );
+             final var executor = Executors.newVirtualThreadPerTaskExecutor() )
+        {
+            currentThread.setContextClassLoader( classLoader );
+            final var timings = preload( MethodHandles.lookup(), executor );
+            assertTrue( timings.containsKey( ServiceSpec.class ) );
+
+            //---* Only the bean itself was created, not a provider instance *-
+            assertEquals( 1, ServiceBean.m_InstanceCounter.get() );
+            final TCEFunction<Class<ServiceSpec>,ServiceSpec> factory = _ -> fail( "The bean was not preloaded" );
+            assertInstanceOf( ServiceBean.class, getConfiguration( ServiceSpec.class, factory ) );
+        }
+        finally
+        {
+            currentThread.setContextClassLoader( contextClassLoader );
+        }
+    }   //  testPreloadServiceLoader()
+
     /**
      *  Tests for the method
      *  {@link ConfigUtil#printUsage(OutputStream,Optional,CharSequence,Collection)}.
@@ -28,16 +28,21 @@ import org.tquadrat.foundation.config.cli.StringValueHandler;
 import org.tquadrat.foundation.config.spi.CLIArgumentDefinition;
 import org.tquadrat.foundation.config.spi.CLIDefinition;
 import org.tquadrat.foundation.config.spi.CLIOptionDefinition;
+import org.tquadrat.foundation.config.spi.Parameters;
 import org.tquadrat.foundation.exception.EmptyArgumentException;
 import org.tquadrat.foundation.exception.NullArgumentException;
 import org.tquadrat.foundation.testutil.TestBaseClass;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
 import static java.lang.System.out;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.tquadrat.foundation.config.ConfigUtil.compileCommandLine;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.util.Template.replaceVariable;
 
@@ -208,8 +213,72 @@ public class TestArgumentParser extends TestBaseClass
         expected = replaceVariable( "--option value --option --user ${user.name} value argument", k -> Optional.ofNullable( getProperty( k ) ) );
         actual = candidate.resolveCommandLine( args );
         assertEquals( expected, actual );
+
+        /*
+         * Nested argument files, with a recursive reference.
+         */
+        args = new String [] {"@src/test/data/ArgFile3", "@src/test/data/ArgFile1"};
+        expected = "--option nested --option value --option value argument \"Also sentences with blanks are allowed\" @src/test/data/ArgFile3 last --option value --option value argument \"Also sentences with blanks are allowed\"";
+        actual = candidate.resolveCommandLine( args );
+        assertEquals( expected, actual );
     }   //  testCommandLineResolution()
 
+    /**
+     *  Tests the concurrent use of a single instance of
+     *  {@link ArgumentParser}
+     *  from several threads.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     *
+     *  @see org.tquadrat.foundation.config.ConfigUtil#compileCommandLine(Collection)
+     */
+    @Test
+    final void testConcurrentParse() throws Exception
+    {
+        skipThreadTest();
+
+        final var count = 1_000;
+        final Set<String> arguments = ConcurrentHashMap.newKeySet();
+        final Set<String> options = ConcurrentHashMap.newKeySet();
+        final List<CLIDefinition> cliDefinitions = List.of(
+            new CLIArgumentDefinition( "argument", 0, "An argument", null, "ARG", true, new StringValueHandler( (_, v) -> arguments.add( v ) ), false, null ),
+            new CLIOptionDefinition( "option", List.of( "--option", "-o" ), "An option", null, "OPTION", true, new StringValueHandler( (_, v) -> options.add( v ) ), false, null ) );
+
+        final var candidate = compileCommandLine( cliDefinitions );
+        assertNotNull( candidate );
+
+        final var executor = Executors.newFixedThreadPool( 8 );
+        try
+        {
+            final List<Future<?>> futures = new ArrayList<>();
+            for( var i = 0; i < count; ++i )
+            {
+                final var option = i % 2 == 0 ? "-o" : "--option";
+                final var value = Integer.toString( i );
+                futures.add( executor.submit( () -> candidate.parse( option, "option" + value, "argument" + value ) ) );
+            }
+            for( final var future : futures ) future.get();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        assertEquals( count, arguments.size() );
+        assertEquals( count, options.size() );
+        for( var i = 0; i < count; ++i )
+        {
+            assertTrue( arguments.contains( "argument" + i ) );
+            assertTrue( options.contains( "option" + i ) );
+        }
+
+        //---* A failed parse does not affect the instance *-------------------
+        assertThrows( CmdLineException.class, () -> candidate.parse( "--unknown", "value", "argument" ) );
+        assertThrows( CmdLineException.class, () -> candidate.parse( "argument" ) );
+        candidate.parse( "-o", "last", "final" );
+        assertTrue( options.contains( "last" ) );
+        assertTrue( arguments.contains( "final" ) );
+    }   //  testConcurrentParse()
+
     /**
      *  Tests the creation of an instance for
      *  {@link CLIArgumentDefinition}.
@@ -513,6 +582,133 @@ public class TestArgumentParser extends TestBaseClass
         assertInstanceOf( String.class, v );
         assertEquals( value, v.toString() );
     }   //  testCreateArgumentParser()
+
+    /**
+     *  Tests the look-ahead for the parameters of an option, with a value
+     *  handler that takes all parameters up to the next option.
+     */
+    @Test
+    final void testIsParameter()
+    {
+        skipThreadTest();
+
+        final List<String> files = new ArrayList<>();
+        final CmdLineValueHandler<String> filesHandler = new CmdLineValueHandler<>( (_, v) -> files.add( v ) )
+        {
+            @Override
+            protected final Collection<String> translate( final Parameters params ) throws CmdLineException
+            {
+                final List<String> retValue = new ArrayList<>();
+                for( var i = 0; params.isParameter( i ); ++i ) retValue.add( params.getParameter( i ) );
+                return retValue;
+            }
+        };
+        final List<String> pairs = new ArrayList<>();
+        final CmdLineValueHandler<String> pairHandler = new CmdLineValueHandler<>( (_, v) -> pairs.add( v ) )
+        {
+            @Override
+            protected final Collection<String> translate( final Parameters params ) throws CmdLineException
+            {
+                return List.of( "%s=%s".formatted( params.getParameter( 0 ), params.getParameter( 1 ) ) );
+            }
+        };
+        final List<CLIDefinition> cliDefinitions = List.of(
+            new CLIOptionDefinition( "files", List.of( "--files", "-f" ), "The files", null, "FILE", false, filesHandler, true, null ),
+            new CLIOptionDefinition( "pair", List.of( "--pair", "-p" ), "A pair", null, "PAIR", false, pairHandler, true, null ),
+            new CLIOptionDefinition( "stringOption", List.of( "--string", "-s" ), "A String value", null, "STRING", false, new StringValueHandler( m_Values::put ), false, null ) );
+
+        var candidate = new ArgumentParser( cliDefinitions );
+        candidate.parse( "--files", "a", "b", "c", "-s", "x", "-f", "d", "--pair", "key", "value" );
+        assertEquals( List.of( "a", "b", "c", "d" ), files );
+        assertEquals( List.of( "key=value" ), pairs );
+        assertEquals( "x", m_Values.get( "stringOption" ) );
+
+        //---* The second parameter of the pair is the next option *-----------
+        candidate = new ArgumentParser( cliDefinitions );
+        final var parser = candidate;
+        assertThrows( CmdLineException.class, () -> parser.parse( "--pair", "key", "-s", "x" ) );
+        assertThrows( CmdLineException.class, () -> parser.parse( "--pair", "key" ) );
+
+        //---* A large number of parameters *----------------------------------
+        files.clear();
+        final List<String> args = new ArrayList<>();
+        args.add( "--files" );
+        for( var i = 0; i < 100_000; ++i ) args.add( "file%d".formatted( i ) );
+        args.add( "-s" );
+        args.add( "y" );
+        candidate = new ArgumentParser( cliDefinitions );
+        candidate.parse( args.toArray( String []::new ) );
+        assertEquals( 100_000, files.size() );
+        assertEquals( "y", m_Values.get( "stringOption" ) );
+    }   //  testIsParameter()
+
+    /**
+     *  Tests the lookup of the options, with abbreviations and suggestions
+     *  for invalid options.
+     */
+    @Test
+    final void testOptionLookup()
+    {
+        skipThreadTest();
+
+        final List<CLIDefinition> cliDefinitions = List.of(
+            new CLIOptionDefinition( "verbose", List.of( "--verbose", "-v" ), "Verbose output", null, "VERBOSE", false, new StringValueHandler( m_Values::put ), false, null ),
+            new CLIOptionDefinition( "verbatim", List.of( "--verbatim" ), "Verbatim output", null, "VERBATIM", false, new StringValueHandler( m_Values::put ), false, null ),
+            new CLIOptionDefinition( "version", List.of( "--version", "--ver" ), "The version", null, "VERSION", false, new StringValueHandler( m_Values::put ), false, null ) );
+
+        //---* Without abbreviations, the full name is required *--------------
+        var candidate = compileCommandLine( cliDefinitions );
+        candidate.parse( "--verbose", "a", "--ver", "b" );
+        assertEquals( "a", m_Values.get( "verbose" ) );
+        assertEquals( "b", m_Values.get( "version" ) );
+        final var parser = candidate;
+        var exception = assertThrows( CmdLineException.class, () -> parser.parse( "--verbos", "a" ) );
+        assertEquals( CmdLineException.MSGKEY_OptionUnknown, exception.getMessageKey() );
+        assertEquals( "'--verbose'", exception.getMessageArguments() [1] );
+        exception = assertThrows( CmdLineException.class, () -> parser.parse( "--quiet", "a" ) );
+        assertEquals( CmdLineException.MSGKEY_OptionInvalid, exception.getMessageKey() );
+
+        //---* With abbreviations *--------------------------------------------
+        m_Values.clear();
+        candidate = compileCommandLine( cliDefinitions, true );
+        candidate.parse( "--verbo", "a", "--verba", "b", "--vers", "c" );
+        assertEquals( "a", m_Values.get( "verbose" ) );
+        assertEquals( "b", m_Values.get( "verbatim" ) );
+        assertEquals( "c", m_Values.get( "version" ) );
+
+        //---* The full name wins over the prefix *----------------------------
+        candidate.parse( "--ver", "d" );
+        assertEquals( "d", m_Values.get( "version" ) );
+
+        //---* Options with the value in the same token *----------------------
+        candidate.parse( "--verba=e", "-vf" );
+        assertEquals( "e", m_Values.get( "verbatim" ) );
+        assertEquals( "f", m_Values.get( "verbose" ) );
+        exception = assertThrows( CmdLineException.class, () -> parser.parse( "--verbos=a" ) );
+        assertEquals( "--verbos", exception.getMessageArguments() [0] );
+
+        //---* Ambiguous abbreviations and short options *---------------------
+        final var abbreviatingParser = candidate;
+        exception = assertThrows( CmdLineException.class, () -> abbreviatingParser.parse( "--verb", "a" ) );
+        assertEquals( CmdLineException.MSGKEY_OptionAmbiguous, exception.getMessageKey() );
+        assertEquals( "'--verbatim', '--verbose'", exception.getMessageArguments() [1] );
+        exception = assertThrows( CmdLineException.class, () -> abbreviatingParser.parse( "-x", "a" ) );
+        assertEquals( CmdLineException.MSGKEY_OptionUnknown, exception.getMessageKey() );
+        assertEquals( "'-v'", exception.getMessageArguments() [1] );
+
+        //---* The trie itself *-----------------------------------------------
+        final var trie = new OptionTrie( new String [] {"--verbatim", "--verbose", "--version", "-v"}, new int [] {0, 1, 2, 1} );
+        assertEquals( 1, trie.find( "-v" ) );
+        assertEquals( OptionTrie.NOT_FOUND, trie.find( "--verb" ) );
+        assertEquals( OptionTrie.AMBIGUOUS, trie.findPrefix( "--verb" ) );
+        assertEquals( 2, trie.findPrefix( "--vers" ) );
+        assertEquals( OptionTrie.NOT_FOUND, trie.findPrefix( "--x" ) );
+        assertEquals( List.of( "--verbatim", "--verbose" ), trie.complete( "--verb" ) );
+        assertEquals( List.of( "--version" ), trie.suggest( "--verzion", 2 ) );
+        assertEquals( List.of( "--verbose" ), trie.suggest( "--verbote", 2 ) );
+        assertEquals( List.of( "--version" ), trie.suggest( "--versio", 1 ) );
+        assertTrue( trie.suggest( "--quiet", 2 ).isEmpty() );
+    }   //  testOptionLookup()
 }
 //  class TestArgumentParser
 
@@ -0,0 +1,476 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.SessionBeanCachePolicy;
+import org.tquadrat.foundation.config.SessionBeanEvictionListener.Cause;
+import org.tquadrat.foundation.config.SessionBeanSpec;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static java.lang.Thread.sleep;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *  Tests for
+ *  {@link SessionBeanRegistry}
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.config.internal.TestSessionBeanRegistry" )
+public class TestSessionBeanRegistry extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a dummy session bean for the given session key.
+     *
+     *  @param  sessionKey  The session key.
+     *  @return The session bean.
+     */
+    static final SessionBeanSpec createBean( final String sessionKey )
+    {
+        final var retValue = (SessionBeanSpec) Proxy.newProxyInstance( SessionBeanSpec.class.getClassLoader(), new Class<?> [] {SessionBeanSpec.class}, ( proxy, method, args ) -> switch( method.getName() )
+        {
+            case "getSessionKey" -> sessionKey;
+            case "hashCode" -> System.identityHashCode( proxy );
+            case "equals" -> proxy == args [0];
+            case "toString" -> sessionKey;
+            default -> null;
+        } );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createBean()
+
+    /**
+     *  Tests retrieving and dropping session beans.
+     */
+    @Test
+    final void testGetBean()
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final var candidate = new SessionBeanRegistry();
+
+        final var bean1 = candidate.getBean( SessionBeanSpec.class, "key1", k -> { counter.incrementAndGet(); return createBean( k ); } );
+        assertNotNull( bean1 );
+        assertEquals( "key1", bean1.getSessionKey() );
+        assertSame( bean1, candidate.getBean( SessionBeanSpec.class, "key1", k -> { counter.incrementAndGet(); return createBean( k ); } ) );
+        assertEquals( 1, counter.get() );
+
+        final var bean2 = candidate.getBean( SessionBeanSpec.class, "key2", k -> { counter.incrementAndGet(); return createBean( k ); } );
+        assertNotSame( bean1, bean2 );
+        assertEquals( 2, counter.get() );
+
+        assertSame( bean1, candidate.getBeanIfPresent( SessionBeanSpec.class, "key1" ) );
+        assertNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "key3" ) );
+        assertEquals( 2, counter.get() );
+
+        candidate.drop( SessionBeanSpec.class, "key1" );
+        assertNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "key1" ) );
+        assertNotSame( bean1, candidate.getBean( SessionBeanSpec.class, "key1", k -> { counter.incrementAndGet(); return createBean( k ); } ) );
+        assertEquals( 3, counter.get() );
+    }   //  testGetBean()
+
+    /**
+     *  Tests that a failing creator does not leave an empty holder behind.
+     */
+    @Test
+    final void testGetBeanCreatorFailure()
+    {
+        skipThreadTest();
+
+        final var candidate = new SessionBeanRegistry();
+        assertThrows( IllegalStateException.class, () -> candidate.getBean( SessionBeanSpec.class, "key1", k -> { throw new IllegalStateException( k ); } ) );
+        assertNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "key1" ) );
+        assertEquals( 0, candidate.dropAll( SessionBeanSpec.class ) );
+        assertEquals( 0, candidate.dropIf( _ -> true ) );
+
+        final var bean = candidate.getBean( SessionBeanSpec.class, "key1", TestSessionBeanRegistry::createBean );
+        assertNotNull( bean );
+        assertSame( bean, candidate.getBeanIfPresent( SessionBeanSpec.class, "key1" ) );
+    }   //  testGetBeanCreatorFailure()
+
+    /**
+     *  Tests that a session bean whose holder is dropped while the bean is
+     *  created is released, and that the caller gets a bean that is still
+     *  registered.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testGetBeanDroppedDuringCreation() throws Exception
+    {
+        skipThreadTest();
+
+        interface CloseableSessionBean extends SessionBeanSpec, AutoCloseable {}
+
+        final List<CloseableSessionBean> closed = new CopyOnWriteArrayList<>();
+        final var created = new AtomicInteger();
+        final var creationStarted = new CountDownLatch( 1 );
+        final var proceed = new CountDownLatch( 1 );
+        final var candidate = new SessionBeanRegistry();
+        final Function<String,CloseableSessionBean> creator = k ->
+        {
+            if( created.incrementAndGet() == 1 )
+            {
+                creationStarted.countDown();
+                try
+                {
+                    proceed.await();
+                }
+                catch( final InterruptedException e )
+                {
+                    throw new IllegalStateException( e );
+                }
+            }
+            return (CloseableSessionBean) Proxy.newProxyInstance( CloseableSessionBean.class.getClassLoader(), new Class<?> [] {CloseableSessionBean.class}, ( proxy, method, _ ) -> switch( method.getName() )
+            {
+                case "getSessionKey" -> k;
+                case "close" ->
+                {
+                    closed.add( (CloseableSessionBean) proxy );
+                    yield null;
+                }
+                case "hashCode" -> System.identityHashCode( proxy );
+                default -> null;
+            } );
+        };
+
+        final var result = new AtomicReference<CloseableSessionBean>();
+        final var requester = Thread.ofPlatform().start( () -> result.set( candidate.getBean( CloseableSessionBean.class, "key1", creator ) ) );
+        creationStarted.await();
+
+        //---* Drop the holder while the bean is being created *---------------
+        final var dropper = Thread.ofPlatform().start( () -> candidate.drop( CloseableSessionBean.class, "key1" ) );
+        while( dropper.getState() != Thread.State.WAITING && dropper.isAlive() ) Thread.onSpinWait();
+        proceed.countDown();
+        requester.join();
+        dropper.join();
+
+        assertEquals( 2, created.get() );
+        assertEquals( 1, closed.size() );
+        assertNotNull( result.get() );
+        assertNotSame( closed.getFirst(), result.get() );
+        assertSame( result.get(), candidate.getBeanIfPresent( CloseableSessionBean.class, "key1" ) );
+    }   //  testGetBeanDroppedDuringCreation()
+
+    /**
+     *  Tests dropping session beans in bulk.
+     */
+    @Test
+    final void testDropAll()
+    {
+        skipThreadTest();
+
+        interface OtherSessionBean extends SessionBeanSpec {}
+
+        final var candidate = new SessionBeanRegistry();
+        for( final var key : List.of( "tenant1.user1", "tenant1.user2", "tenant2.user1" ) )
+        {
+            candidate.getBean( SessionBeanSpec.class, key, TestSessionBeanRegistry::createBean );
+            candidate.getBean( OtherSessionBean.class, key, k -> (OtherSessionBean) Proxy.newProxyInstance( OtherSessionBean.class.getClassLoader(), new Class<?> [] {OtherSessionBean.class}, ( _, method, _ ) -> "getSessionKey".equals( method.getName() ) ? k : null ) );
+        }
+        assertEquals( 0, candidate.dropAll( "unknown" ) );
+
+        assertEquals( 2, candidate.dropAll( "tenant1.user2" ) );
+        assertNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "tenant1.user2" ) );
+        assertNotNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "tenant1.user1" ) );
+
+        candidate.getBean( SessionBeanSpec.class, "tenant1.user2", TestSessionBeanRegistry::createBean );
+        assertEquals( 3, candidate.dropIf( k -> k.startsWith( "tenant1." ) ) );
+        assertNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "tenant1.user1" ) );
+        assertNotNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "tenant2.user1" ) );
+
+        assertEquals( 1, candidate.dropAll( SessionBeanSpec.class ) );
+        assertNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "tenant2.user1" ) );
+        assertEquals( 0, candidate.dropAll( SessionBeanSpec.class ) );
+        assertNotNull( candidate.getBeanIfPresent( OtherSessionBean.class, "tenant2.user1" ) );
+    }   //  testDropAll()
+
+    /**
+     *  Tests that session beans that were in use before a bounded policy was
+     *  set are not evicted as idle.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEvictionAfterPolicyChange() throws Exception
+    {
+        skipThreadTest();
+
+        final List<String> evicted = new CopyOnWriteArrayList<>();
+        final var candidate = new SessionBeanRegistry();
+        final var bean = candidate.getBean( SessionBeanSpec.class, "key1", TestSessionBeanRegistry::createBean );
+        sleep( 200 );
+        assertSame( bean, candidate.getBean( SessionBeanSpec.class, "key1", TestSessionBeanRegistry::createBean ) );
+
+        candidate.setPolicy( SessionBeanSpec.class, SessionBeanCachePolicy.UNBOUNDED
+            .withIdleTimeout( Duration.ofMillis( 100 ) )
+            .withEvictionListener( (k, _, _) -> evicted.add( k ) ) );
+        candidate.evictExpired();
+        assertTrue( evicted.isEmpty() );
+        assertSame( bean, candidate.getBeanIfPresent( SessionBeanSpec.class, "key1" ) );
+
+        sleep( 300 );
+        candidate.evictExpired();
+        assertEquals( List.of( "key1" ), evicted );
+    }   //  testEvictionAfterPolicyChange()
+
+    /**
+     *  Tests the eviction of session beans when the maximum size is exceeded.
+     */
+    @Test
+    final void testEvictionByCapacity()
+    {
+        skipThreadTest();
+
+        final var maximumSize = 16;
+        final List<String> evicted = new CopyOnWriteArrayList<>();
+        final var candidate = new SessionBeanRegistry();
+        candidate.setPolicy( SessionBeanSpec.class, SessionBeanCachePolicy.UNBOUNDED
+            .withMaximumSize( maximumSize )
+            .withEvictionListener( (k, b, c) ->
+            {
+                assertEquals( Cause.CAPACITY, c );
+                assertEquals( k, b.getSessionKey() );
+                evicted.add( k );
+            } ) );
+
+        final var count = 100;
+        for( var i = 0; i < count; ++i )
+        {
+            candidate.getBean( SessionBeanSpec.class, "key%d".formatted( i ), TestSessionBeanRegistry::createBean );
+        }
+        assertTrue( count - evicted.size() <= maximumSize );
+        assertFalse( evicted.contains( "key%d".formatted( count - 1 ) ) );
+    }   //  testEvictionByCapacity()
+
+    /**
+     *  Tests the eviction of expired session beans.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEvictionByIdleTimeout() throws Exception
+    {
+        skipThreadTest();
+
+        final List<String> evicted = new CopyOnWriteArrayList<>();
+        final var candidate = new SessionBeanRegistry();
+        candidate.setPolicy( SessionBeanSpec.class, SessionBeanCachePolicy.UNBOUNDED
+            .withIdleTimeout( Duration.ofMillis( 50 ) )
+            .withEvictionListener( (k, _, c) ->
+            {
+                assertEquals( Cause.EXPIRED, c );
+                evicted.add( k );
+            } ) );
+
+        final var bean = candidate.getBean( SessionBeanSpec.class, "key1", TestSessionBeanRegistry::createBean );
+        candidate.getBean( SessionBeanSpec.class, "key2", TestSessionBeanRegistry::createBean );
+        candidate.evictExpired();
+        assertTrue( evicted.isEmpty() );
+
+        sleep( 200 );
+        candidate.evictExpired();
+        assertEquals( 2, evicted.size() );
+        assertTrue( evicted.containsAll( List.of( "key1", "key2" ) ) );
+        assertNotSame( bean, candidate.getBean( SessionBeanSpec.class, "key1", TestSessionBeanRegistry::createBean ) );
+    }   //  testEvictionByIdleTimeout()
+
+    /**
+     *  Tests that the least recently used session beans are evicted when the
+     *  maximum size is exceeded.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEvictionLeastRecentlyUsed() throws Exception
+    {
+        skipThreadTest();
+
+        final var maximumSize = 16;
+        final List<String> evicted = new CopyOnWriteArrayList<>();
+        final var candidate = new SessionBeanRegistry();
+        candidate.setPolicy( SessionBeanSpec.class, SessionBeanCachePolicy.UNBOUNDED
+            .withMaximumSize( maximumSize )
+            .withEvictionListener( (k, _, _) -> evicted.add( k ) ) );
+        for( var i = 0; i < maximumSize; ++i )
+        {
+            candidate.getBean( SessionBeanSpec.class, "key%d".formatted( i ), TestSessionBeanRegistry::createBean );
+        }
+        assertTrue( evicted.isEmpty() );
+
+        //---* Use the first half of the beans again *-------------------------
+        sleep( 20 );
+        for( var i = 0; i < maximumSize / 2; ++i )
+        {
+            assertNotNull( candidate.getBeanIfPresent( SessionBeanSpec.class, "key%d".formatted( i ) ) );
+        }
+
+        //---* Exceed the maximum size; a batch of beans is evicted *----------
+        candidate.getBean( SessionBeanSpec.class, "new", TestSessionBeanRegistry::createBean );
+        assertFalse( evicted.isEmpty() );
+        for( final var key : evicted )
+        {
+            assertTrue( Integer.parseInt( key.substring( 3 ) ) >= maximumSize / 2, key );
+        }
+
+        //---* The next beans fit without another eviction *-------------------
+        final var count = evicted.size();
+        candidate.getBean( SessionBeanSpec.class, "other", TestSessionBeanRegistry::createBean );
+        assertEquals( count, evicted.size() );
+    }   //  testEvictionLeastRecentlyUsed()
+
+    /**
+     *  Tests that a failing eviction listener does neither prevent the
+     *  release of the evicted beans nor reach the caller.
+     */
+    @Test
+    final void testEvictionListenerFailure()
+    {
+        skipThreadTest();
+
+        interface CloseableSessionBean extends SessionBeanSpec, AutoCloseable {}
+
+        final List<String> closed = new CopyOnWriteArrayList<>();
+        final List<String> notified = new CopyOnWriteArrayList<>();
+        final var candidate = new SessionBeanRegistry();
+        candidate.setPolicy( CloseableSessionBean.class, SessionBeanCachePolicy.UNBOUNDED
+            .withMaximumSize( 4 )
+            .withEvictionListener( (k, _, _) ->
+            {
+                notified.add( k );
+                throw new IllegalStateException( k );
+            } ) );
+        final Function<String,CloseableSessionBean> creator = k -> (CloseableSessionBean) Proxy.newProxyInstance( CloseableSessionBean.class.getClassLoader(), new Class<?> [] {CloseableSessionBean.class}, ( _, method, _ ) -> switch( method.getName() )
+        {
+            case "getSessionKey" -> k;
+            case "close" ->
+            {
+                closed.add( k );
+                yield null;
+            }
+            default -> null;
+        } );
+
+        final var caller = Thread.currentThread();
+        final var handler = caller.getUncaughtExceptionHandler();
+        final List<Throwable> failures = new ArrayList<>();
+        caller.setUncaughtExceptionHandler( (_,e) -> failures.add( e ) );
+        try
+        {
+            for( var i = 0; i < 10; ++i ) candidate.getBean( CloseableSessionBean.class, "key%d".formatted( i ), creator );
+        }
+        finally
+        {
+            caller.setUncaughtExceptionHandler( handler );
+        }
+        assertFalse( notified.isEmpty() );
+        assertEquals( notified.size(), failures.size() );
+        assertEquals( notified.size(), closed.size() );
+        assertTrue( closed.containsAll( notified ) );
+        for( final var failure : failures ) assertInstanceOf( IllegalStateException.class, failure );
+    }   //  testEvictionListenerFailure()
+
+    /**
+     *  Tests that dropped and evicted session beans are closed.
+     */
+    @Test
+    final void testRelease()
+    {
+        skipThreadTest();
+
+        interface CloseableSessionBean extends SessionBeanSpec, AutoCloseable {}
+
+        final List<String> closed = new CopyOnWriteArrayList<>();
+        final var candidate = new SessionBeanRegistry();
+        candidate.setPolicy( CloseableSessionBean.class, SessionBeanCachePolicy.UNBOUNDED.withMaximumSize( 4 ) );
+        final Function<String,CloseableSessionBean> creator = k -> (CloseableSessionBean) Proxy.newProxyInstance( CloseableSessionBean.class.getClassLoader(), new Class<?> [] {CloseableSessionBean.class}, ( _, method, _ ) -> switch( method.getName() )
+        {
+            case "getSessionKey" -> k;
+            case "close" ->
+            {
+                closed.add( k );
+                if( k.startsWith( "failing" ) ) throw new IllegalStateException( k );
+                yield null;
+            }
+            default -> null;
+        } );
+
+        candidate.getBean( CloseableSessionBean.class, "key1", creator );
+        candidate.getBean( CloseableSessionBean.class, "key2", creator );
+        candidate.drop( CloseableSessionBean.class, "key1" );
+        assertEquals( List.of( "key1" ), closed );
+        candidate.drop( CloseableSessionBean.class, "key1" );
+        assertEquals( List.of( "key1" ), closed );
+
+        //---* A failure does not stop the release of the other beans *--------
+        candidate.getBean( CloseableSessionBean.class, "failing", creator );
+        final var caller = Thread.currentThread();
+        final var handler = caller.getUncaughtExceptionHandler();
+        final List<Throwable> failures = new ArrayList<>();
+        caller.setUncaughtExceptionHandler( (_,e) -> failures.add( e ) );
+        try
+        {
+            assertEquals( 2, candidate.dropAll( CloseableSessionBean.class ) );
+        }
+        finally
+        {
+            caller.setUncaughtExceptionHandler( handler );
+        }
+        assertEquals( 3, closed.size() );
+        assertTrue( closed.containsAll( List.of( "key2", "failing" ) ) );
+        assertEquals( 1, failures.size() );
+        assertInstanceOf( IllegalStateException.class, failures.getFirst() );
+
+        //---* Evicted beans are closed, too *---------------------------------
+        closed.clear();
+        for( var i = 0; i < 10; ++i ) candidate.getBean( CloseableSessionBean.class, "key%d".formatted( i ), creator );
+        assertFalse( closed.isEmpty() );
+        for( final var key : closed ) assertNull( candidate.getBeanIfPresent( CloseableSessionBean.class, key ) );
+
+        //---* Beans that are not closeable are just dropped *-----------------
+        closed.clear();
+        candidate.getBean( SessionBeanSpec.class, "plain", TestSessionBeanRegistry::createBean );
+        assertEquals( 1, candidate.dropIf( "plain"::equals ) );
+        assertTrue( closed.isEmpty() );
+    }   //  testRelease()
+}
+//  class TestSessionBeanRegistry
+
+/*
+ *  End of File
+ */
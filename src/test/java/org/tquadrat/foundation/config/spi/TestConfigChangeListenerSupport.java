@@ -0,0 +1,797 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigBeanSpec;
+import org.tquadrat.foundation.config.ConfigurationChangeEvent;
+import org.tquadrat.foundation.config.ConfigurationChangeListener;
+import org.tquadrat.foundation.config.DispatchMode;
+import org.tquadrat.foundation.config.OverflowPolicy;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static java.lang.ref.Reference.reachabilityFence;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+
+/**
+ *  Tests for
+ *  {@link ConfigChangeListenerSupport}
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.config.spi.TestConfigChangeListenerSupport" )
+public class TestConfigChangeListenerSupport extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a dummy configuration bean that can be used as the owner of
+     *  a
+     *  {@link ConfigChangeListenerSupport}
+     *  instance.
+     *
+     *  @return The configuration bean.
+     */
+    static final ConfigBeanSpec createOwner()
+    {
+        final var retValue = (ConfigBeanSpec) Proxy.newProxyInstance( ConfigBeanSpec.class.getClassLoader(), new Class<?> [] {ConfigBeanSpec.class}, ( proxy, method, args ) -> switch( method.getName() )
+        {
+            case "hashCode" -> System.identityHashCode( proxy );
+            case "equals" -> proxy == args [0];
+            case "toString" -> "owner";
+            default -> null;
+        } );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createOwner()
+
+    /**
+     *  Tests the bulk updates.
+     */
+    @Test
+    final void testBulkUpdate()
+    {
+        skipThreadTest();
+
+        final var submissions = new AtomicInteger();
+        final Executor executor = r ->
+        {
+            submissions.incrementAndGet();
+            r.run();
+        };
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), executor );
+
+        final List<List<ConfigurationChangeEvent>> batches = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener = new ConfigurationChangeListener()
+        {
+            @Override
+            public final void propertyChange( final ConfigurationChangeEvent event ) { batches.add( List.of( event ) ); }
+
+            @Override
+            public final void propertiesChanged( final List<ConfigurationChangeEvent> events ) { batches.add( events ); }
+        };
+        candidate.addListener( listener );
+
+        try( final var outer = candidate.beginBulkUpdate() )
+        {
+            candidate.fireEvent( "property1", "old", "new" );
+            candidate.fireEvent( "property2", "old", "new" );
+            try( @SuppressWarnings( "unused" ) final var ignored = candidate.beginBulkUpdate() )
+            {
+                candidate.fireEvent( "property1", "new", "newer" );
+                candidate.fireEvent( "property3", "old", "new" );
+                candidate.fireEvent( "property3", "new", "old" );
+            }
+            assertEquals( 0, submissions.get() );
+            outer.close();
+            assertEquals( 1, submissions.get() );
+        }
+        assertEquals( 1, submissions.get() );
+        assertEquals( 1, batches.size() );
+        final var batch = batches.getFirst();
+        assertEquals( 2, batch.size() );
+        assertEquals( "property1", batch.getFirst().getPropertyName() );
+        assertEquals( "old", batch.getFirst().getOldValue() );
+        assertEquals( "newer", batch.getFirst().getNewValue() );
+        assertEquals( "property2", batch.get( 1 ).getPropertyName() );
+        assertThrows( UnsupportedOperationException.class, () -> batch.add( batch.getFirst() ) );
+
+        //---* No changes, no notification *-----------------------------------
+        try( @SuppressWarnings( "unused" ) final var ignored = candidate.beginBulkUpdate() )
+        {
+            candidate.fireEvent( "property1", "old", "new" );
+            candidate.fireEvent( "property1", "new", "old" );
+        }
+        assertEquals( 1, submissions.get() );
+
+        //---* The default implementation delegates to propertyChange() *------
+        final List<ConfigurationChangeEvent> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener simpleListener = events::add;
+        candidate.removeListener( listener );
+        candidate.addListener( simpleListener );
+        try( @SuppressWarnings( "unused" ) final var ignored = candidate.beginBulkUpdate() )
+        {
+            candidate.fireEvent( "property1", "old", "new" );
+            candidate.fireEvent( "property2", "old", "new" );
+        }
+        assertEquals( 2, submissions.get() );
+        assertEquals( 2, events.size() );
+
+        //---* Without bulk update *-------------------------------------------
+        candidate.fireEvent( "property1", "new", "newer" );
+        assertEquals( 3, submissions.get() );
+        assertEquals( 3, events.size() );
+        reachabilityFence( listener );
+        reachabilityFence( simpleListener );
+    }   //  testBulkUpdate()
+
+    /**
+     *  Tests that a nested bulk update cannot be closed on another thread
+     *  than the one that started it.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBulkUpdateClosedByOtherThread() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), Runnable::run );
+        final List<ConfigurationChangeEvent> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener = events::add;
+        candidate.addListener( listener );
+
+        final var outer = candidate.beginBulkUpdate();
+        candidate.fireEvent( "property1", "old", "new" );
+        final var inner = candidate.beginBulkUpdate();
+        candidate.fireEvent( "property2", "old", "new" );
+
+        //---* Closing on another thread fails and changes nothing *-----------
+        final var failure = new AtomicReference<Throwable>();
+        for( final var bulkUpdate : List.of( inner, outer ) )
+        {
+            final var closer = new Thread( () ->
+            {
+                try
+                {
+                    bulkUpdate.close();
+                }
+                catch( final Throwable t )
+                {
+                    failure.set( t );
+                }
+            } );
+            closer.start();
+            closer.join();
+            assertInstanceOf( IllegalStateException.class, failure.getAndSet( null ) );
+        }
+        assertTrue( events.isEmpty() );
+
+        //---* The bulk update is still active for the starting thread *-------
+        candidate.fireEvent( "property1", "new", "newer" );
+        inner.close();
+        assertTrue( events.isEmpty() );
+        outer.close();
+        assertEquals( 2, events.size() );
+        assertEquals( "property1", events.get( 0 ).getPropertyName() );
+        assertEquals( "newer", events.get( 0 ).getNewValue() );
+        assertEquals( "property2", events.get( 1 ).getPropertyName() );
+
+        //---* The bulk update has ended *-------------------------------------
+        outer.close();
+        candidate.fireEvent( "property3", "old", "new" );
+        assertEquals( 3, events.size() );
+        reachabilityFence( listener );
+    }   //  testBulkUpdateClosedByOtherThread()
+
+    /**
+     *  Tests that a full mailbox of one listener does not prevent the
+     *  delivery of a bulk update to the other listeners.
+     */
+    @Test
+    final void testBulkUpdateRejected()
+    {
+        skipThreadTest();
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), tasks::add );
+        candidate.setQueueLimit( 1, OverflowPolicy.FAIL );
+
+        final List<ConfigurationChangeEvent> fullEvents = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener fullListener = fullEvents::add;
+        candidate.addListener( fullListener );
+        candidate.fireEvent( "property0", "old", "new" );
+
+        final List<ConfigurationChangeEvent> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener = events::add;
+        candidate.addListener( listener );
+
+        final var bulkUpdate = candidate.beginBulkUpdate();
+        candidate.fireEvent( "property1", "old", "new" );
+        candidate.fireEvent( "property2", "old", "new" );
+        assertThrows( RejectedExecutionException.class, bulkUpdate::close );
+
+        Runnable task;
+        while( nonNull( task = tasks.poll() ) ) task.run();
+        assertEquals( 1, fullEvents.size() );
+        assertEquals( 2, events.size() );
+        assertEquals( 2, candidate.getDroppedEventCount() );
+        reachabilityFence( fullListener );
+        reachabilityFence( listener );
+    }   //  testBulkUpdateRejected()
+
+    /**
+     *  Tests closing the listener support.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClose() throws Exception
+    {
+        skipThreadTest();
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), tasks::add );
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener = event -> events.add( event.getPropertyName() );
+        final ConfigurationChangeListener orderedListener = event -> events.add( event.getPropertyName() );
+        candidate.addListener( listener );
+        candidate.addListener( orderedListener, DispatchMode.ORDERED );
+
+        candidate.fireEvent( "property1", "old", "new" );
+        candidate.fireEvent( "property2", "old", "new" );
+        assertEquals( 4, candidate.getPendingNotificationCount() );
+        assertEquals( 3, tasks.size() );
+        assertFalse( candidate.awaitPendingNotifications( Duration.ofMillis( 10 ) ) );
+
+        final var worker = new Thread( () ->
+        {
+            Runnable task;
+            while( nonNull( task = tasks.poll() ) ) task.run();
+        } );
+        worker.start();
+        assertFalse( candidate.isClosed() );
+        assertTrue( candidate.close( Duration.ofSeconds( 5 ) ) );
+        worker.join();
+        assertTrue( candidate.isClosed() );
+        assertEquals( 0, candidate.getPendingNotificationCount() );
+        assertEquals( 4, events.size() );
+
+        //---* No events after close, new listeners are ignored *--------------
+        candidate.fireEvent( "property3", "old", "new" );
+        candidate.addListener( listener );
+        candidate.fireEvent( "property3", "old", "new" );
+        assertTrue( tasks.isEmpty() );
+        assertEquals( 4, events.size() );
+
+        assertTrue( candidate.close( Duration.ZERO ) );
+        assertThrows( NullArgumentException.class, () -> candidate.close( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.awaitPendingNotifications( null ) );
+        reachabilityFence( listener );
+        reachabilityFence( orderedListener );
+    }   //  testClose()
+
+    /**
+     *  Tests the notification of the listeners through the default
+     *  executor.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testDefaultExecutor() throws Exception
+    {
+        skipThreadTest();
+
+        assertNotNull( ConfigChangeListenerSupport.getDefaultExecutor() );
+
+        final var candidate = new ConfigChangeListenerSupport( createOwner() );
+        assertSame( ConfigChangeListenerSupport.getDefaultExecutor(), candidate.getExecutor() );
+
+        final var latch = new CountDownLatch( 1 );
+        final ConfigurationChangeListener listener = _ -> latch.countDown();
+        candidate.addListener( listener );
+        candidate.fireEvent( "property", "old", "new" );
+        assertTrue( latch.await( 5, SECONDS ) );
+        reachabilityFence( listener );
+    }   //  testDefaultExecutor()
+
+    /**
+     *  Tests the shutdown of the shared executor.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testShutdownSharedExecutor() throws Exception
+    {
+        skipThreadTest();
+
+        final var executor = assertInstanceOf( ExecutorService.class, ConfigChangeListenerSupport.getDefaultExecutor() );
+        final var candidate = new ConfigChangeListenerSupport( createOwner() );
+
+        final var counter = new AtomicInteger();
+        final ConfigurationChangeListener listener = _ -> counter.incrementAndGet();
+        candidate.addListener( listener );
+        candidate.fireEvent( "property", "old", "new" );
+        assertTrue( ConfigChangeListenerSupport.shutdownSharedExecutor( Duration.ofSeconds( 5 ) ) );
+        assertTrue( executor.isTerminated() );
+        assertEquals( 1, counter.get() );
+        assertTrue( ConfigChangeListenerSupport.shutdownSharedExecutor( Duration.ZERO ) );
+
+        //---* A new shared executor is created when needed *------------------
+        assertNotSame( executor, ConfigChangeListenerSupport.getDefaultExecutor() );
+        candidate.fireEvent( "property", "new", "old" );
+        assertTrue( candidate.close( Duration.ofSeconds( 5 ) ) );
+        assertEquals( 2, counter.get() );
+        reachabilityFence( listener );
+    }   //  testShutdownSharedExecutor()
+
+    /**
+     *  Tests the notification of the listeners through a dedicated
+     *  executor.
+     */
+    @Test
+    final void testDedicatedExecutor()
+    {
+        skipThreadTest();
+
+        final var submissions = new AtomicInteger();
+        final Executor executor = r ->
+        {
+            submissions.incrementAndGet();
+            r.run();
+        };
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), executor );
+        assertSame( executor, candidate.getExecutor() );
+
+        final List<ConfigurationChangeEvent> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener1 = events::add;
+        final ConfigurationChangeListener listener2 = events::add;
+        candidate.addListener( listener1 );
+        candidate.addListener( listener2 );
+        candidate.fireEvent( "property", "old", "new" );
+        assertEquals( 2, submissions.get() );
+        assertEquals( 2, events.size() );
+        assertEquals( "property", events.getFirst().getPropertyName() );
+        assertEquals( "old", events.getFirst().getOldValue() );
+        assertEquals( "new", events.getFirst().getNewValue() );
+
+        candidate.removeListener( listener1 );
+        candidate.fireEvent( "property", "new", "newer" );
+        assertEquals( 3, submissions.get() );
+        assertEquals( 3, events.size() );
+
+        candidate.setExecutor( null );
+        assertSame( ConfigChangeListenerSupport.getDefaultExecutor(), candidate.getExecutor() );
+        reachabilityFence( listener1 );
+        reachabilityFence( listener2 );
+    }   //  testDedicatedExecutor()
+
+    /**
+     *  Tests the delivery of the events with the dispatch mode
+     *  {@link DispatchMode#ORDERED ORDERED}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOrderedDispatch() throws Exception
+    {
+        skipThreadTest();
+
+        final var eventCount = 1_000;
+        final var executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            final var candidate = new ConfigChangeListenerSupport( createOwner(), executor );
+
+            final List<Object> values = new ArrayList<>();
+            final var active = new AtomicInteger();
+            final var overlaps = new AtomicInteger();
+            final var latch = new CountDownLatch( eventCount );
+            final ConfigurationChangeListener listener = event ->
+            {
+                if( active.incrementAndGet() > 1 ) overlaps.incrementAndGet();
+                values.add( event.getNewValue() );
+                active.decrementAndGet();
+                latch.countDown();
+            };
+            candidate.addListener( listener, DispatchMode.ORDERED );
+
+            for( var i = 0; i < eventCount; ++i ) candidate.fireEvent( "property", i - 1, i );
+            assertTrue( latch.await( 10, SECONDS ) );
+            assertEquals( 0, overlaps.get() );
+            assertEquals( eventCount, values.size() );
+            for( var i = 0; i < eventCount; ++i ) assertEquals( Integer.valueOf( i ), values.get( i ) );
+            reachabilityFence( listener );
+
+            assertThrows( NullArgumentException.class, () -> candidate.addListener( listener, null ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }   //  testOrderedDispatch()
+
+    /**
+     *  Tests the delivery of the events with the dispatch mode
+     *  {@link DispatchMode#SYNCHRONOUS SYNCHRONOUS}.
+     */
+    @Test
+    final void testSynchronousDispatch()
+    {
+        skipThreadTest();
+
+        final var submissions = new AtomicInteger();
+        final Executor executor = r ->
+        {
+            submissions.incrementAndGet();
+            r.run();
+        };
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), executor );
+
+        final var caller = Thread.currentThread();
+        final List<Thread> threads = new ArrayList<>();
+        final ConfigurationChangeListener listener = _ -> threads.add( Thread.currentThread() );
+        final ConfigurationChangeListener failingListener = _ -> { throw new IllegalStateException( "Failed" ); };
+        final ConfigurationChangeListener asyncListener = _ -> {};
+        candidate.addListener( failingListener, DispatchMode.SYNCHRONOUS );
+        candidate.addListener( listener, DispatchMode.SYNCHRONOUS );
+        candidate.addListener( asyncListener );
+
+        final var handler = caller.getUncaughtExceptionHandler();
+        final List<Throwable> failures = new ArrayList<>();
+        caller.setUncaughtExceptionHandler( (_,e) -> failures.add( e ) );
+        try
+        {
+            candidate.fireEvent( "property", "old", "new" );
+        }
+        finally
+        {
+            caller.setUncaughtExceptionHandler( handler );
+        }
+        assertEquals( List.of( caller ), threads );
+        assertEquals( 1, failures.size() );
+        assertInstanceOf( IllegalStateException.class, failures.getFirst() );
+        assertEquals( 1, submissions.get() );
+        reachabilityFence( listener );
+        reachabilityFence( failingListener );
+        reachabilityFence( asyncListener );
+    }   //  testSynchronousDispatch()
+
+    /**
+     *  Tests the listeners that were registered for distinct properties.
+     */
+    @Test
+    final void testPropertyFilter()
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), Runnable::run );
+
+        final List<String> allEvents = new ArrayList<>();
+        final List<String> setEvents = new ArrayList<>();
+        final List<String> filterEvents = new ArrayList<>();
+        final ConfigurationChangeListener allListener = event -> allEvents.add( event.getPropertyName() );
+        final ConfigurationChangeListener setListener = event -> setEvents.add( event.getPropertyName() );
+        final ConfigurationChangeListener filterListener = event -> filterEvents.add( event.getPropertyName() );
+        candidate.addListener( allListener );
+        candidate.addListener( setListener, Set.of( "a", "b1" ) );
+        candidate.addListener( filterListener, name -> name.startsWith( "b" ) );
+
+        //---* Duplicates are ignored *----------------------------------------
+        candidate.addListener( setListener );
+        candidate.addListener( allListener, Set.of( "c" ) );
+
+        candidate.fireEvent( "a", "old", "new" );
+        candidate.fireEvent( "b1", "old", "new" );
+        candidate.fireEvent( "b2", "old", "new" );
+        candidate.fireEvent( "c", "old", "new" );
+        assertEquals( List.of( "a", "b1", "b2", "c" ), allEvents );
+        assertEquals( List.of( "a", "b1" ), setEvents );
+        assertEquals( List.of( "b1", "b2" ), filterEvents );
+
+        //---* Bulk updates deliver only the relevant events *-----------------
+        allEvents.clear();
+        setEvents.clear();
+        filterEvents.clear();
+        try( @SuppressWarnings( "unused" ) final var ignored = candidate.beginBulkUpdate() )
+        {
+            candidate.fireEvent( "a", "old", "new" );
+            candidate.fireEvent( "b2", "old", "new" );
+            candidate.fireEvent( "c", "old", "new" );
+        }
+        assertEquals( List.of( "a", "b2", "c" ), allEvents );
+        assertEquals( List.of( "a" ), setEvents );
+        assertEquals( List.of( "b2" ), filterEvents );
+
+        //---* Removal *-------------------------------------------------------
+        candidate.removeListener( setListener );
+        candidate.removeListener( filterListener );
+        setEvents.clear();
+        filterEvents.clear();
+        candidate.fireEvent( "a", "old", "new" );
+        candidate.fireEvent( "b1", "old", "new" );
+        assertTrue( setEvents.isEmpty() );
+        assertTrue( filterEvents.isEmpty() );
+
+        assertThrows( EmptyArgumentException.class, () -> candidate.addListener( setListener, Set.of() ) );
+        assertThrows( NullArgumentException.class, () -> candidate.addListener( setListener, (Predicate<String>) null ) );
+        reachabilityFence( allListener );
+        reachabilityFence( setListener );
+        reachabilityFence( filterListener );
+    }   //  testPropertyFilter()
+
+    /**
+     *  Tests the limited mailboxes for the listeners.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testQueueLimit() throws Exception
+    {
+        skipThreadTest();
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final Runnable runTasks = () ->
+        {
+            Runnable task;
+            while( nonNull( task = tasks.poll() ) ) task.run();
+        };
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), tasks::add );
+
+        final List<ConfigurationChangeEvent> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener = events::add;
+        candidate.addListener( listener );
+
+        assertThrows( IllegalArgumentException.class, () -> candidate.setQueueLimit( 0, OverflowPolicy.FAIL ) );
+        assertThrows( NullArgumentException.class, () -> candidate.setQueueLimit( 1, null ) );
+
+        //---* DROP_OLDEST *---------------------------------------------------
+        candidate.setQueueLimit( 2, OverflowPolicy.DROP_OLDEST );
+        candidate.fireEvent( "a", 0, 1 );
+        candidate.fireEvent( "a", 1, 2 );
+        candidate.fireEvent( "a", 2, 3 );
+        assertEquals( 1, tasks.size() );
+        runTasks.run();
+        assertEquals( List.of( 2, 3 ), events.stream().map( ConfigurationChangeEvent::getNewValue ).toList() );
+        assertEquals( 1, candidate.getDroppedEventCount() );
+
+        //---* COALESCE *------------------------------------------------------
+        events.clear();
+        candidate.setQueueLimit( 2, OverflowPolicy.COALESCE );
+        candidate.fireEvent( "a", 0, 1 );
+        candidate.fireEvent( "b", 0, 1 );
+        candidate.fireEvent( "a", 1, 2 );
+        runTasks.run();
+        assertEquals( 2, events.size() );
+        assertEquals( "a", events.getFirst().getPropertyName() );
+        assertEquals( 0, events.getFirst().getOldValue() );
+        assertEquals( 2, events.getFirst().getNewValue() );
+        assertEquals( "b", events.get( 1 ).getPropertyName() );
+        assertEquals( 1, candidate.getCoalescedEventCount() );
+        assertEquals( 1, candidate.getDroppedEventCount() );
+
+        //---* Coalescing for one listener does not change the event for others *
+        events.clear();
+        final List<ConfigurationChangeEvent> otherEvents = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener otherListener = otherEvents::add;
+        candidate.addListener( otherListener, Set.of( "a" ) );
+        candidate.fireEvent( "b", 0, 1 );
+        candidate.fireEvent( "a", 0, 1 );
+        candidate.fireEvent( "a", 1, 2 );
+        runTasks.run();
+        assertEquals( List.of( 2 ), events.stream().filter( e -> "a".equals( e.getPropertyName() ) ).map( ConfigurationChangeEvent::getNewValue ).toList() );
+        assertEquals( List.of( 1, 2 ), otherEvents.stream().map( ConfigurationChangeEvent::getNewValue ).toList() );
+        assertEquals( 0, otherEvents.getFirst().getOldValue() );
+        assertEquals( 2, candidate.getCoalescedEventCount() );
+        candidate.removeListener( otherListener );
+        reachabilityFence( otherListener );
+
+        //---* FAIL *----------------------------------------------------------
+        events.clear();
+        candidate.setQueueLimit( 1, OverflowPolicy.FAIL );
+        candidate.fireEvent( "a", 0, 1 );
+        assertThrows( RejectedExecutionException.class, () -> candidate.fireEvent( "a", 1, 2 ) );
+        runTasks.run();
+        assertEquals( 1, events.size() );
+        assertEquals( 2, candidate.getDroppedEventCount() );
+
+        //---* BLOCK *---------------------------------------------------------
+        events.clear();
+        candidate.setQueueLimit( 1, OverflowPolicy.BLOCK );
+        candidate.fireEvent( "a", 0, 1 );
+        final var blocked = new Thread( () -> candidate.fireEvent( "a", 1, 2 ) );
+        blocked.start();
+        blocked.join( 200 );
+        assertTrue( blocked.isAlive() );
+        runTasks.run();
+        blocked.join( 5_000 );
+        assertFalse( blocked.isAlive() );
+        runTasks.run();
+        assertEquals( List.of( 1, 2 ), events.stream().map( ConfigurationChangeEvent::getNewValue ).toList() );
+        assertEquals( 2, candidate.getDroppedEventCount() );
+
+        //---* Unbounded again *-----------------------------------------------
+        events.clear();
+        candidate.removeQueueLimit();
+        candidate.fireEvent( "a", 0, 1 );
+        candidate.fireEvent( "a", 1, 2 );
+        assertEquals( 2, tasks.size() );
+        runTasks.run();
+        assertEquals( 2, events.size() );
+        reachabilityFence( listener );
+    }   //  testQueueLimit()
+
+    /**
+     *  Tests that the policy
+     *  {@link OverflowPolicy#BLOCK BLOCK}
+     *  does not wait on a thread of the shared executor.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testQueueLimitBlockOnSharedExecutor() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigChangeListenerSupport( createOwner() );
+        candidate.setQueueLimit( 1, OverflowPolicy.BLOCK );
+        final var release = new CountDownLatch( 1 );
+        final ConfigurationChangeListener slowListener = _ ->
+        {
+            try
+            {
+                release.await( 5, SECONDS );
+            }
+            catch( final InterruptedException _ )
+            {
+                Thread.currentThread().interrupt();
+            }
+        };
+        candidate.addListener( slowListener );
+
+        //---* Fire the events from a thread of the shared executor *----------
+        final var firer = new ConfigChangeListenerSupport( createOwner() );
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final var done = new CountDownLatch( 1 );
+        final ConfigurationChangeListener firingListener = _ ->
+        {
+            try
+            {
+                for( var i = 0; i < 3; ++i ) candidate.fireEvent( "a", i, i + 1 );
+            }
+            catch( final RejectedExecutionException e )
+            {
+                failures.add( e );
+            }
+            finally
+            {
+                done.countDown();
+            }
+        };
+        firer.addListener( firingListener );
+        firer.fireEvent( "trigger", 0, 1 );
+
+        assertTrue( done.await( 5, SECONDS ) );
+        assertEquals( 1, failures.size() );
+        assertTrue( candidate.getDroppedEventCount() > 0 );
+        release.countDown();
+        assertTrue( candidate.awaitPendingNotifications( Duration.ofSeconds( 5 ) ) );
+        reachabilityFence( slowListener );
+        reachabilityFence( firingListener );
+    }   //  testQueueLimitBlockOnSharedExecutor()
+
+    /**
+     *  Tests that a mailbox is discarded when the executor rejects the task
+     *  that should drain it.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRejectedDrain() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), _ -> { throw new RejectedExecutionException( "Shut down" ); } );
+        final List<ConfigurationChangeEvent> events = new CopyOnWriteArrayList<>();
+        final ConfigurationChangeListener listener = events::add;
+        candidate.addListener( listener, DispatchMode.ORDERED );
+
+        assertThrows( RejectedExecutionException.class, () -> candidate.fireEvent( "a", 0, 1 ) );
+        assertEquals( 0, candidate.getPendingNotificationCount() );
+        assertEquals( 1, candidate.getDroppedEventCount() );
+        assertTrue( candidate.awaitPendingNotifications( Duration.ZERO ) );
+
+        candidate.setQueueLimit( 4, OverflowPolicy.DROP_OLDEST );
+        assertThrows( RejectedExecutionException.class, () -> candidate.fireEvent( "a", 1, 2 ) );
+        assertEquals( 0, candidate.getPendingNotificationCount() );
+        assertEquals( 2, candidate.getDroppedEventCount() );
+        assertTrue( candidate.close( Duration.ZERO ) );
+        assertTrue( events.isEmpty() );
+        reachabilityFence( listener );
+    }   //  testRejectedDrain()
+
+    /**
+     *  Tests adding and removing listeners.
+     */
+    @Test
+    final void testRegistry()
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final var candidate = new ConfigChangeListenerSupport( createOwner(), Runnable::run );
+
+        //---* No listeners *--------------------------------------------------
+        candidate.fireEvent( "property", "old", "new" );
+        assertEquals( 0, counter.get() );
+
+        //---* Duplicates are ignored *----------------------------------------
+        final ConfigurationChangeListener listener = _ -> counter.incrementAndGet();
+        candidate.addListener( listener );
+        candidate.addListener( listener );
+        candidate.fireEvent( "property", "old", "new" );
+        assertEquals( 1, counter.get() );
+
+        //---* Removing an unknown listener does nothing *---------------------
+        candidate.removeListener( _ -> fail( "Not registered" ) );
+        candidate.removeListener( null );
+        candidate.fireEvent( "property", "old", "new" );
+        assertEquals( 2, counter.get() );
+
+        candidate.removeListener( listener );
+        candidate.fireEvent( "property", "old", "new" );
+        assertEquals( 2, counter.get() );
+
+        assertThrows( NullArgumentException.class, () -> candidate.addListener( null ) );
+        assertThrows( EmptyArgumentException.class, () -> candidate.fireEvent( "", "old", "new" ) );
+        reachabilityFence( listener );
+    }   //  testRegistry()
+}
+//  class TestConfigChangeListenerSupport
+
+/*
+ *  End of File
+ */
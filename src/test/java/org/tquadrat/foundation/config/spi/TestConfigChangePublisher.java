@@ -0,0 +1,211 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigurationChangeEvent;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.tquadrat.foundation.config.spi.TestConfigChangeListenerSupport.createOwner;
+
+/**
+ *  Tests for
+ *  {@link ConfigChangePublisher}
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.config.spi.TestConfigChangePublisher" )
+public class TestConfigChangePublisher extends TestBaseClass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A subscriber that requests the events explicitly.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    private static final class TestSubscriber implements Flow.Subscriber<ConfigurationChangeEvent>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The latch that is released on completion.
+         */
+        final CountDownLatch m_Completed = new CountDownLatch( 1 );
+
+        /**
+         *  The received events.
+         */
+        final BlockingQueue<ConfigurationChangeEvent> m_Events = new LinkedBlockingQueue<>();
+
+        /**
+         *  The latch that is released on subscription.
+         */
+        final CountDownLatch m_Subscribed = new CountDownLatch( 1 );
+
+        /**
+         *  The subscription.
+         */
+        volatile Flow.Subscription m_Subscription;
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onComplete() { m_Completed.countDown(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onError( final Throwable throwable ) { fail( throwable ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onNext( final ConfigurationChangeEvent item ) { m_Events.add( item ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onSubscribe( final Flow.Subscription subscription )
+        {
+            m_Subscription = subscription;
+            m_Subscribed.countDown();
+        }   //  onSubscribe()
+    }
+    //  class TestSubscriber
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the delivery of the events on demand.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testDemand() throws Exception
+    {
+        skipThreadTest();
+
+        final var executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            final var listenerSupport = new ConfigChangeListenerSupport( createOwner() );
+            final var candidate = new ConfigChangePublisher( listenerSupport, executor, 16 );
+
+            final var slowSubscriber = new TestSubscriber();
+            final var fastSubscriber = new TestSubscriber();
+            candidate.subscribe( slowSubscriber );
+            candidate.subscribe( fastSubscriber );
+            assertTrue( slowSubscriber.m_Subscribed.await( 5, SECONDS ) );
+            assertTrue( fastSubscriber.m_Subscribed.await( 5, SECONDS ) );
+            assertEquals( 2, candidate.getSubscriberCount() );
+
+            slowSubscriber.m_Subscription.request( 1 );
+            fastSubscriber.m_Subscription.request( Long.MAX_VALUE );
+
+            for( var i = 0; i < 3; ++i ) listenerSupport.fireEvent( "property", i, i + 1 );
+
+            //---* The fast subscriber gets all events, in order *-------------
+            for( var i = 0; i < 3; ++i )
+            {
+                final var event = fastSubscriber.m_Events.poll( 5, SECONDS );
+                assertNotNull( event );
+                assertEquals( i + 1, event.getNewValue() );
+            }
+
+            //---* The slow subscriber gets only what it requested *-----------
+            assertEquals( 1, slowSubscriber.m_Events.poll( 5, SECONDS ).getNewValue() );
+            assertNull( slowSubscriber.m_Events.poll( 100, MILLISECONDS ) );
+            slowSubscriber.m_Subscription.request( 2 );
+            assertEquals( 2, slowSubscriber.m_Events.poll( 5, SECONDS ).getNewValue() );
+            assertEquals( 3, slowSubscriber.m_Events.poll( 5, SECONDS ).getNewValue() );
+            assertEquals( 0, candidate.getDroppedEventCount() );
+
+            //---* Closing completes the subscriptions *-----------------------
+            candidate.close();
+            assertTrue( candidate.isClosed() );
+            assertTrue( slowSubscriber.m_Completed.await( 5, SECONDS ) );
+            assertTrue( fastSubscriber.m_Completed.await( 5, SECONDS ) );
+
+            listenerSupport.fireEvent( "property", 3, 4 );
+            assertTrue( fastSubscriber.m_Events.isEmpty() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }   //  testDemand()
+
+    /**
+     *  Tests the buffer overflow for a subscriber that does not request any
+     *  events.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOverflow() throws Exception
+    {
+        skipThreadTest();
+
+        final var listenerSupport = new ConfigChangeListenerSupport( createOwner() );
+        try( final var candidate = new ConfigChangePublisher( listenerSupport, Runnable::run, 1 ) )
+        {
+            final var subscriber = new TestSubscriber();
+            candidate.subscribe( subscriber );
+            assertTrue( subscriber.m_Subscribed.await( 5, SECONDS ) );
+
+            for( var i = 0; i < 10; ++i ) listenerSupport.fireEvent( "property", i, i + 1 );
+            assertTrue( candidate.getDroppedEventCount() > 0 );
+
+            subscriber.m_Subscription.request( Long.MAX_VALUE );
+            final List<Object> values = subscriber.m_Events.stream().map( ConfigurationChangeEvent::getNewValue ).toList();
+            assertFalse( values.isEmpty() );
+            assertEquals( 1, values.getFirst() );
+        }
+    }   //  testOverflow()
+}
+//  class TestConfigChangePublisher
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,183 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigurationChangeListener;
+import org.tquadrat.foundation.config.OverflowPolicy;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.lang.ref.Reference.reachabilityFence;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.tquadrat.foundation.config.spi.ConfigChangeMetrics.NO_METRICS;
+import static org.tquadrat.foundation.config.spi.TestConfigChangeListenerSupport.createOwner;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+
+/**
+ *  Tests for
+ *  {@link ConfigChangeStatistics}
+ *  and its use by
+ *  {@link ConfigChangeListenerSupport}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.config.spi.TestConfigChangeStatistics" )
+public class TestConfigChangeStatistics extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the counters and the detection of slow listeners.
+     */
+    @Test
+    final void testCounters()
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigChangeStatistics( 1 );
+        final var listenerSupport = new ConfigChangeListenerSupport( createOwner(), Runnable::run );
+        assertSame( NO_METRICS, listenerSupport.getMetrics() );
+        listenerSupport.setMetrics( candidate );
+        assertSame( candidate, listenerSupport.getMetrics() );
+
+        final ConfigurationChangeListener fastListener = _ -> {};
+        final ConfigurationChangeListener slowListener = _ ->
+        {
+            try
+            {
+                Thread.sleep( 5 );
+            }
+            catch( final InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+        };
+        listenerSupport.addListener( fastListener );
+        listenerSupport.addListener( slowListener );
+
+        listenerSupport.fireEvent( "property", "old", "new" );
+        listenerSupport.fireEvent( "property", "new", "newer" );
+        assertEquals( 2, candidate.getEventsFired() );
+        assertEquals( 4, candidate.getNotificationsQueued() );
+        assertEquals( 4, candidate.getNotificationsDelivered() );
+        assertEquals( 0, candidate.getNotificationsFailed() );
+        assertEquals( 0, candidate.getNotificationsInFlight() );
+        assertEquals( 2, candidate.getSlowNotifications() );
+        assertEquals( 1, candidate.getSlowListeners().size() );
+        assertEquals( slowListener.getClass().getName(), candidate.getSlowListeners().iterator().next() );
+        assertEquals( 2, candidate.getListenerExecutionTimes().size() );
+        assertEquals( 4, Arrays.stream( candidate.getExecutionTimeHistogram() ).sum() );
+        assertTrue( candidate.getMaxExecutionTimeNanos() >= 5_000_000L );
+        assertTrue( candidate.getAverageExecutionTimeNanos() > 0 );
+
+        //---* Failures *------------------------------------------------------
+        listenerSupport.removeListener( slowListener );
+        final ConfigurationChangeListener failingListener = _ -> { throw new IllegalStateException( "Failed" ); };
+        listenerSupport.addListener( failingListener );
+        final var thread = Thread.currentThread();
+        final var handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler( (_,_) -> {} );
+        try
+        {
+            listenerSupport.fireEvent( "property", "newer", "newest" );
+        }
+        finally
+        {
+            thread.setUncaughtExceptionHandler( handler );
+        }
+        assertEquals( 1, candidate.getNotificationsFailed() );
+
+        candidate.reset();
+        assertEquals( 0, candidate.getEventsFired() );
+        assertTrue( candidate.getSlowListeners().isEmpty() );
+
+        assertThrows( IllegalArgumentException.class, () -> candidate.setTimeBudgetMillis( -1 ) );
+        reachabilityFence( fastListener );
+        reachabilityFence( slowListener );
+        reachabilityFence( failingListener );
+    }   //  testCounters()
+
+    /**
+     *  Tests the queue depth and the discarded notifications.
+     */
+    @Test
+    final void testQueue()
+    {
+        skipThreadTest();
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final var candidate = new ConfigChangeStatistics();
+        final var listenerSupport = new ConfigChangeListenerSupport( createOwner(), tasks::add );
+        listenerSupport.setMetrics( candidate );
+        listenerSupport.setQueueLimit( 2, OverflowPolicy.DROP_OLDEST );
+
+        final ConfigurationChangeListener listener = _ -> {};
+        listenerSupport.addListener( listener );
+        for( var i = 0; i < 3; ++i ) listenerSupport.fireEvent( "property", i, i + 1 );
+        assertEquals( 3, candidate.getNotificationsQueued() );
+        assertEquals( 1, candidate.getNotificationsDiscarded() );
+        assertEquals( 2, candidate.getNotificationsInFlight() );
+        assertEquals( 2, candidate.getMaxQueueDepth() );
+
+        Runnable task;
+        while( nonNull( task = tasks.poll() ) ) task.run();
+        assertEquals( 2, candidate.getNotificationsDelivered() );
+        assertEquals( 0, candidate.getNotificationsInFlight() );
+        reachabilityFence( listener );
+    }   //  testQueue()
+
+    /**
+     *  Tests the registration with the platform MBean server.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRegisterMBean() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigChangeStatistics( 100 );
+        final var objectName = candidate.registerMBean( "TestConfigChangeStatistics" );
+        final var server = ManagementFactory.getPlatformMBeanServer();
+        try
+        {
+            assertTrue( server.isRegistered( objectName ) );
+            assertEquals( 100L, server.getAttribute( objectName, "TimeBudgetMillis" ) );
+            assertEquals( 0L, server.getAttribute( objectName, "EventsFired" ) );
+        }
+        finally
+        {
+            server.unregisterMBean( objectName );
+        }
+    }   //  testRegisterMBean()
+}
+//  class TestConfigChangeStatistics
+
+/*
+ *  End of File
+ */
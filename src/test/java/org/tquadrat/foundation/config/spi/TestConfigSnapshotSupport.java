@@ -0,0 +1,169 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.config.ConfigBeanSpec;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *  Tests for
+ *  {@link ConfigSnapshotSupport}
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.config.spi.TestConfigSnapshotSupport" )
+public class TestConfigSnapshotSupport extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests that the snapshots stay consistent while the values are
+     *  modified concurrently.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConsistency() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigSnapshotSupport( Map.of( "first", 0, "second", 0 ) );
+        final var running = new AtomicBoolean( true );
+        final var writer = new Thread( () ->
+        {
+            for( var i = 1; running.get(); ++i ) candidate.update( Map.of( "first", i, "second", i ) );
+        } );
+        writer.start();
+        try
+        {
+            for( var i = 0; i < 100_000; ++i )
+            {
+                final var snapshot = candidate.getSnapshot();
+                assertEquals( snapshot.getValue( "first" ).orElseThrow(), snapshot.getValue( "second" ).orElseThrow() );
+            }
+        }
+        finally
+        {
+            running.set( false );
+            writer.join();
+        }
+        assertEquals( List.of( "first", "second" ), List.copyOf( candidate.getSnapshot().getPropertyNames() ) );
+    }   //  testConsistency()
+
+    /**
+     *  Tests the creation of a snapshot through the getters of a
+     *  configuration bean, as done by the default implementation of
+     *  {@link ConfigBeanSpec#getSnapshot()}.
+     */
+    @Test
+    final void testCreateSnapshot()
+    {
+        skipThreadTest();
+
+        final var timezone = ZoneId.of( "Europe/Berlin" );
+        final var calls = new AtomicInteger();
+        final var bean = (ConfigBeanSpec) Proxy.newProxyInstance( ConfigBeanSpec.class.getClassLoader(), new Class<?> [] {ConfigBeanSpec.class}, ( proxy, method, args ) -> switch( method.getName() )
+        {
+            case "getCharset" -> UTF_8;
+            case "getLocale" -> Locale.GERMANY;
+            case "getResourceBundle" -> Optional.empty();
+            case "getSnapshot" -> InvocationHandler.invokeDefault( proxy, method, args );
+            case "getTimezone" -> timezone;
+            case "isDebug" -> calls.incrementAndGet() > 0;
+            case "isTest" -> Boolean.FALSE;
+            default -> null;
+        } );
+
+        final var snapshot = bean.getSnapshot();
+        assertNotNull( snapshot );
+        assertEquals( UTF_8, snapshot.getValue( "charset" ).orElseThrow() );
+        assertEquals( Locale.GERMANY, snapshot.getValue( "locale", Locale.class ).orElseThrow() );
+        assertEquals( timezone, snapshot.getValue( "timezone" ).orElseThrow() );
+        assertEquals( Boolean.TRUE, snapshot.getValue( "isDebug" ).orElseThrow() );
+        assertEquals( Boolean.FALSE, snapshot.getValue( "isTest" ).orElseThrow() );
+        assertTrue( snapshot.hasProperty( "resourceBundle" ) );
+        assertFalse( snapshot.hasProperty( "snapshot" ) );
+        assertEquals( 6, snapshot.getPropertyNames().size() );
+        assertThrows( ClassCastException.class, () -> snapshot.getValue( "locale", String.class ) );
+
+        //---* Each snapshot calls the getters again *-------------------------
+        final var other = ConfigSnapshotSupport.createSnapshot( bean );
+        assertNotSame( snapshot, other );
+        assertEquals( snapshot.getValues(), other.getValues() );
+        assertEquals( 2, calls.get() );
+
+        assertThrows( NullArgumentException.class, () -> ConfigSnapshotSupport.createSnapshot( null ) );
+    }   //  testCreateSnapshot()
+
+    /**
+     *  Tests the modification of the snapshot.
+     */
+    @Test
+    final void testUpdate()
+    {
+        skipThreadTest();
+
+        final var candidate = new ConfigSnapshotSupport( Map.of( "name", "value", "count", 1 ) );
+        final var snapshot1 = candidate.getSnapshot();
+        assertEquals( "value", snapshot1.getValue( "name" ).orElseThrow() );
+        assertSame( snapshot1, candidate.getSnapshot() );
+
+        candidate.update( "name", "other" );
+        final var snapshot2 = candidate.getSnapshot();
+        assertNotSame( snapshot1, snapshot2 );
+        assertEquals( "value", snapshot1.getValue( "name" ).orElseThrow() );
+        assertEquals( "other", snapshot2.getValue( "name" ).orElseThrow() );
+        assertEquals( 1, snapshot2.getValue( "count" ).orElseThrow() );
+
+        candidate.update( "name", null );
+        assertTrue( candidate.getSnapshot().hasProperty( "name" ) );
+        assertTrue( candidate.getSnapshot().getValue( "name" ).isEmpty() );
+
+        candidate.update( Map.of( "count", 2, "flag", true ) );
+        assertEquals( 2, candidate.getSnapshot().getValue( "count" ).orElseThrow() );
+        assertEquals( true, candidate.getSnapshot().getValue( "flag" ).orElseThrow() );
+        assertEquals( 3, candidate.getSnapshot().getPropertyNames().size() );
+
+        assertThrows( UnsupportedOperationException.class, () -> candidate.getSnapshot().getValues().put( "name", "value" ) );
+    }   //  testUpdate()
+}
+//  class TestConfigSnapshotSupport
+
+/*
+ *  End of File
+ */
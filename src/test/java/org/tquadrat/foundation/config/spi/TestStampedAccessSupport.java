@@ -0,0 +1,127 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.config.spi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *  Tests for
+ *  {@link StampedAccessSupport}
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.config.spi.TestStampedAccessSupport" )
+public class TestStampedAccessSupport extends TestBaseClass
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The first value; it is always modified together with
+     *  {@link #m_Value2}.
+     */
+    private long m_Value1 = 0;
+
+    /**
+     *  The second value; it is always modified together with
+     *  {@link #m_Value1}.
+     */
+    private long m_Value2 = 0;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests reading and writing values.
+     */
+    @Test
+    final void testReadWrite()
+    {
+        skipThreadTest();
+
+        final var candidate = new StampedAccessSupport();
+        final var value = new AtomicInteger( 1 );
+        assertEquals( 1, candidate.readInt( value::get ) );
+        assertEquals( 1L, candidate.readLong( value::get ) );
+        assertTrue( candidate.readBoolean( () -> value.get() == 1 ) );
+        assertEquals( "1", candidate.read( () -> Integer.toString( value.get() ) ) );
+
+        candidate.write( () -> value.set( 2 ) );
+        assertEquals( 2, candidate.readInt( value::get ) );
+        assertEquals( 2, candidate.exchange( () -> value.getAndSet( 3 ) ) );
+        assertEquals( 3, candidate.readInt( value::get ) );
+    }   //  testReadWrite()
+
+    /**
+     *  Tests that the readers always see a consistent state while a writer
+     *  modifies the values concurrently.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConsistency() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new StampedAccessSupport();
+        final var stop = new AtomicBoolean( false );
+        final var inconsistencies = new AtomicInteger();
+
+        final var readers = new Thread [4];
+        for( var i = 0; i < readers.length; ++i )
+        {
+            readers [i] = Thread.ofPlatform().start( () ->
+            {
+                while( !stop.get() )
+                {
+                    final var difference = candidate.readLong( () -> m_Value1 - m_Value2 );
+                    if( difference != 0 ) inconsistencies.incrementAndGet();
+                }
+            } );
+        }
+
+        for( var i = 0; i < 100_000; ++i )
+        {
+            candidate.write( () ->
+            {
+                ++m_Value1;
+                ++m_Value2;
+            } );
+        }
+        stop.set( true );
+        for( final var reader : readers ) reader.join();
+
+        assertEquals( 0, inconsistencies.get() );
+        assertEquals( 100_000L, candidate.readLong( () -> m_Value2 ) );
+    }   //  testConsistency()
+}
+//  class TestStampedAccessSupport
+
+/*
+ *  End of File
+ */